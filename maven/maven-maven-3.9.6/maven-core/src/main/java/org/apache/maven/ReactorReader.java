@@ -36,6 +36,7 @@
 
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.internal.StagedProjectBuild;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.repository.internal.MavenWorkspaceReader;
@@ -137,6 +138,11 @@ private File find(MavenProject project, Artifact artifact) {
 
         if (hasArtifactFileFromPackagePhase(projectArtifact)) {
             return projectArtifact.getFile();
+        } else if (isBeingPackaged(project)) {
+            // staged builds only let projects needing the main classes through while these are packaged
+            if (!isTestArtifact(artifact) && COMPILE_PHASE_TYPES.contains(artifact.getProperty("type", ""))) {
+                return new File(project.getBuild().getOutputDirectory());
+            }
         } else if (!hasBeenPackaged(project)) {
             // fallback to loose class files only if artifacts haven't been packaged yet
             // and only for plain old jars. Not war files, not ear files, not anything else.
@@ -173,6 +179,15 @@ private boolean hasArtifactFileFromPackagePhase(Artifact projectArtifact) {
                 && projectArtifact.getFile().exists();
     }
 
+    private boolean isBeingPackaged(MavenProject project) {
+        if (session.getRepositorySession() == null) {
+            return false;
+        }
+        Object compiledProjects =
+                session.getRepositorySession().getData().get(StagedProjectBuild.COMPILED_PROJECTS_KEY);
+        return compiledProjects instanceof Collection && ((Collection<?>) compiledProjects).contains(project);
+    }
+
     private boolean hasBeenPackaged(MavenProject project) {
         return project.hasLifecyclePhase("package")
                 || project.hasLifecyclePhase("install")
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+
+/**
+ * <p>
+ * Runs work of a project build thread that mostly waits, e.g. for dependency downloads, so that the executor running
+ * the project builds can use the slot of the thread meanwhile. On a {@link ForkJoinWorkerThread} the pool compensates
+ * through {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}, a thread holding a concurrency permit (see
+ * {@link #setPermits(Semaphore)}) releases it and takes one again before it continues. Elsewhere the work just runs.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 3.9.7
+ */
+public final class BlockingSection {
+
+    /**
+     * The blocking work.
+     *
+     * @param <T> The result type.
+     * @param <E> The checked exception the work may throw.
+     */
+    public interface Operation<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    private static final ThreadLocal<Semaphore> PERMITS = new ThreadLocal<>();
+
+    private BlockingSection() {}
+
+    /**
+     * @param permits The semaphore one of whose permits the current thread holds, {@code null} once it released it.
+     */
+    public static void setPermits(Semaphore permits) {
+        if (permits != null) {
+            PERMITS.set(permits);
+        } else {
+            PERMITS.remove();
+        }
+    }
+
+    public static <T, E extends Exception> T run(Operation<T, E> operation) throws E {
+        Semaphore permits = PERMITS.get();
+        if (permits != null) {
+            permits.release();
+            try {
+                return operation.run();
+            } finally {
+                permits.acquireUninterruptibly();
+            }
+        }
+
+        if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+            Blocker<T, E> blocker = new Blocker<>(operation);
+            try {
+                ForkJoinPool.managedBlock(blocker);
+            } catch (InterruptedException e) {
+                // the blocker does not throw it
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return blocker.getResult();
+        }
+
+        return operation.run();
+    }
+
+    private static final class Blocker<T, E extends Exception> implements ForkJoinPool.ManagedBlocker {
+
+        private final Operation<T, E> operation;
+
+        private boolean done;
+
+        private T result;
+
+        private Exception failure;
+
+        Blocker(Operation<T, E> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean block() {
+            try {
+                result = operation.run();
+            } catch (Exception e) {
+                failure = e;
+            }
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+
+        @SuppressWarnings("unchecked")
+        T getResult() throws E {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure != null) {
+                throw (E) failure;
+            }
+            return result;
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.lifecycle.internal;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 
@@ -27,6 +28,7 @@
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.execution.ProjectExecutionEvent;
 import org.apache.maven.execution.ProjectExecutionListener;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
 import org.apache.maven.lifecycle.MavenExecutionPlan;
 import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
 import org.apache.maven.plugin.MojoExecution;
@@ -113,22 +115,142 @@ public void buildProject(
 
             eventCatapult.fire(ExecutionEvent.Type.ProjectSucceeded, session, null);
         } catch (Throwable t) {
-            builderCommon.handleBuildError(reactorContext, rootSession, session, currentProject, t, buildStartTime);
+            handleBuildError(session, rootSession, reactorContext, currentProject, t, buildStartTime);
+        } finally {
+            session.setCurrentProject(null);
+
+            Thread.currentThread().setContextClassLoader(reactorContext.getOriginalContextClassLoader());
+        }
+    }
+
+    /**
+     * Starts building a project like {@link #buildProject(MavenSession, MavenSession, ReactorContext, MavenProject,
+     * TaskSegment)} but only executes the leading mojo executions of the build plan that are bound to one of the given
+     * phases, {@link #finishProject(StagedProjectBuild, ReactorContext)} executes the rest.
+     *
+     * @param firstStagePhases The phases of the mojo executions to execute now.
+     * @return The started build or {@code null} if the project was skipped or failed.
+     */
+    public StagedProjectBuild startProject(
+            MavenSession session,
+            MavenSession rootSession,
+            ReactorContext reactorContext,
+            MavenProject currentProject,
+            TaskSegment taskSegment,
+            Collection<String> firstStagePhases) {
+        session.setCurrentProject(currentProject);
 
-            projectExecutionListener.afterProjectExecutionFailure(
-                    new ProjectExecutionEvent(session, currentProject, t));
+        long buildStartTime = System.currentTimeMillis();
 
-            // rethrow original errors and runtime exceptions
-            if (t instanceof RuntimeException) {
-                throw (RuntimeException) t;
+        try {
+
+            if (reactorContext.getReactorBuildStatus().isHaltedOrBlacklisted(currentProject)) {
+                eventCatapult.fire(ExecutionEvent.Type.ProjectSkipped, session, null);
+                return null;
             }
-            if (t instanceof Error) {
-                throw (Error) t;
+
+            BuilderCommon.attachToThread(currentProject);
+
+            projectExecutionListener.beforeProjectExecution(new ProjectExecutionEvent(session, currentProject));
+
+            eventCatapult.fire(ExecutionEvent.Type.ProjectStarted, session, null);
+
+            MavenExecutionPlan executionPlan =
+                    builderCommon.resolveBuildPlan(session, currentProject, taskSegment, new HashSet<Artifact>());
+            List<MojoExecution> mojoExecutions = executionPlan.getMojoExecutions();
+
+            int executed = 0;
+            while (executed < mojoExecutions.size()
+                    && firstStagePhases.contains(mojoExecutions.get(executed).getLifecyclePhase())) {
+                executed++;
+            }
+
+            projectExecutionListener.beforeProjectLifecycleExecution(
+                    new ProjectExecutionEvent(session, currentProject, mojoExecutions));
+            if (executed > 0) {
+                mojoExecutor.execute(session, mojoExecutions.subList(0, executed), reactorContext.getProjectIndex());
+            }
+
+            return new StagedProjectBuild(
+                    session, rootSession, currentProject, mojoExecutions, executed, buildStartTime);
+        } catch (Throwable t) {
+            handleBuildError(session, rootSession, reactorContext, currentProject, t, buildStartTime);
+            return null;
+        } finally {
+            session.setCurrentProject(null);
+
+            Thread.currentThread().setContextClassLoader(reactorContext.getOriginalContextClassLoader());
+        }
+    }
+
+    /**
+     * Executes the remaining mojo executions of a project build started with
+     * {@link #startProject(MavenSession, MavenSession, ReactorContext, MavenProject, TaskSegment, Collection)}.
+     * The project is skipped if an upstream project failed in the meantime.
+     *
+     * @param build The started build.
+     */
+    public void finishProject(StagedProjectBuild build, ReactorContext reactorContext) {
+        MavenSession session = build.getSession();
+        MavenProject currentProject = build.getProject();
+        session.setCurrentProject(currentProject);
+
+        try {
+
+            if (reactorContext.getReactorBuildStatus().isHaltedOrBlacklisted(currentProject)) {
+                // skipped like any other project downstream of a failure, the listeners still see the started build end
+                eventCatapult.fire(ExecutionEvent.Type.ProjectSkipped, session, null);
+                projectExecutionListener.afterProjectExecutionFailure(new ProjectExecutionEvent(
+                        session,
+                        currentProject,
+                        new LifecycleExecutionException(
+                                "Skipping the remaining executions of " + currentProject.getId()
+                                        + ", an upstream project failed",
+                                currentProject)));
+                return;
             }
+
+            BuilderCommon.attachToThread(currentProject);
+
+            mojoExecutor.execute(session, build.getRemainingMojoExecutions(), reactorContext.getProjectIndex());
+
+            long buildEndTime = System.currentTimeMillis();
+
+            projectExecutionListener.afterProjectExecutionSuccess(
+                    new ProjectExecutionEvent(session, currentProject, build.getMojoExecutions()));
+
+            reactorContext
+                    .getResult()
+                    .addBuildSummary(new BuildSuccess(currentProject, buildEndTime - build.getBuildStartTime()));
+
+            eventCatapult.fire(ExecutionEvent.Type.ProjectSucceeded, session, null);
+        } catch (Throwable t) {
+            handleBuildError(
+                    session, build.getRootSession(), reactorContext, currentProject, t, build.getBuildStartTime());
         } finally {
             session.setCurrentProject(null);
 
             Thread.currentThread().setContextClassLoader(reactorContext.getOriginalContextClassLoader());
         }
     }
+
+    private void handleBuildError(
+            MavenSession session,
+            MavenSession rootSession,
+            ReactorContext reactorContext,
+            MavenProject currentProject,
+            Throwable t,
+            long buildStartTime) {
+        builderCommon.handleBuildError(reactorContext, rootSession, session, currentProject, t, buildStartTime);
+
+        projectExecutionListener.afterProjectExecutionFailure(new ProjectExecutionEvent(session, currentProject, t));
+
+        // rethrow original errors and runtime exceptions
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+    }
 }
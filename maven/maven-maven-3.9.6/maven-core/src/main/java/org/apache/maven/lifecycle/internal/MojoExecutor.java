@@ -352,8 +352,7 @@ public void ensureDependenciesAreResolved(
             Collection<String> scopesToCollect = dependencyContext.getScopesToCollectForCurrentProject();
             Collection<String> scopesToResolve = dependencyContext.getScopesToResolveForCurrentProject();
 
-            lifeCycleDependencyResolver.resolveProjectDependencies(
-                    project, scopesToCollect, scopesToResolve, session, aggregating, Collections.<Artifact>emptySet());
+            resolveProjectDependencies(project, scopesToCollect, scopesToResolve, session, aggregating);
 
             dependencyContext.synchronizeWithProjectState();
         }
@@ -365,13 +364,8 @@ public void ensureDependenciesAreResolved(
             if (dependencyContext.isResolutionRequiredForAggregatedProjects(scopesToCollect, scopesToResolve)) {
                 for (MavenProject aggregatedProject : session.getProjects()) {
                     if (aggregatedProject != project) {
-                        lifeCycleDependencyResolver.resolveProjectDependencies(
-                                aggregatedProject,
-                                scopesToCollect,
-                                scopesToResolve,
-                                session,
-                                aggregating,
-                                Collections.<Artifact>emptySet());
+                        resolveProjectDependencies(
+                                aggregatedProject, scopesToCollect, scopesToResolve, session, aggregating);
                     }
                 }
             }
@@ -385,6 +379,33 @@ public void ensureDependenciesAreResolved(
         }
     }
 
+    private void resolveProjectDependencies(
+            MavenProject project,
+            Collection<String> scopesToCollect,
+            Collection<String> scopesToResolve,
+            MavenSession session,
+            boolean aggregating)
+            throws LifecycleExecutionException {
+        if (aggregatorLock.getReadHoldCount() > 0 || aggregatorLock.isWriteLockedByCurrentThread()) {
+            // a mojo of this thread holds the reactor locks, builds waiting for them must not get the slot of this
+            // thread
+            lifeCycleDependencyResolver.resolveProjectDependencies(
+                    project, scopesToCollect, scopesToResolve, session, aggregating, Collections.<Artifact>emptySet());
+        } else {
+            // downloads leave the thread waiting, let the build executor use its slot meanwhile
+            BlockingSection.<Void, LifecycleExecutionException>run(() -> {
+                lifeCycleDependencyResolver.resolveProjectDependencies(
+                        project,
+                        scopesToCollect,
+                        scopesToResolve,
+                        session,
+                        aggregating,
+                        Collections.<Artifact>emptySet());
+                return null;
+            });
+        }
+    }
+
     private ArtifactFilter getArtifactFilter(MojoDescriptor mojoDescriptor) {
         String scopeToResolve = mojoDescriptor.getDependencyResolutionRequired();
         String scopeToCollect = mojoDescriptor.getDependencyCollectionRequired();
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.List;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * <p>
+ * A project build whose first mojo executions are done and whose remaining ones are still to be executed, see
+ * {@link LifecycleModuleBuilder#startProject}.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 3.9.7
+ */
+public final class StagedProjectBuild {
+
+    /**
+     * Key of the set of projects in {@link org.eclipse.aether.RepositorySystemSession#getData()} whose first stage is
+     * done and whose remaining executions are running. The reactor reader keeps resolving their main artifact to the
+     * output directory while they are being packaged.
+     */
+    public static final String COMPILED_PROJECTS_KEY = StagedProjectBuild.class.getName() + ".compiledProjects";
+
+    private final MavenSession session;
+
+    private final MavenSession rootSession;
+
+    private final MavenProject project;
+
+    private final List<MojoExecution> mojoExecutions;
+
+    private final int executed;
+
+    private final long buildStartTime;
+
+    StagedProjectBuild(
+            MavenSession session,
+            MavenSession rootSession,
+            MavenProject project,
+            List<MojoExecution> mojoExecutions,
+            int executed,
+            long buildStartTime) {
+        this.session = session;
+        this.rootSession = rootSession;
+        this.project = project;
+        this.mojoExecutions = mojoExecutions;
+        this.executed = executed;
+        this.buildStartTime = buildStartTime;
+    }
+
+    public MavenSession getSession() {
+        return session;
+    }
+
+    public MavenSession getRootSession() {
+        return rootSession;
+    }
+
+    public MavenProject getProject() {
+        return project;
+    }
+
+    /**
+     * @return The complete build plan of the project.
+     */
+    public List<MojoExecution> getMojoExecutions() {
+        return mojoExecutions;
+    }
+
+    /**
+     * @return The mojo executions which have already been executed.
+     */
+    public List<MojoExecution> getExecutedMojoExecutions() {
+        return mojoExecutions.subList(0, executed);
+    }
+
+    /**
+     * @return The mojo executions which still have to be executed.
+     */
+    public List<MojoExecution> getRemainingMojoExecutions() {
+        return mojoExecutions.subList(executed, mojoExecutions.size());
+    }
+
+    public long getBuildStartTime() {
+        return buildStartTime;
+    }
+}
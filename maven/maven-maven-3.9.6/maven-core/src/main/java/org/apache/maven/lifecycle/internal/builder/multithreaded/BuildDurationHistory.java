@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.project.MavenProject;
+
+/**
+ * <p>
+ * Build durations of the reactor projects, persisted between builds in a properties file mapping
+ * {@code groupId:artifactId} to the last build time in milliseconds.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 3.9.7
+ */
+public class BuildDurationHistory {
+
+    private final File file;
+
+    private final Properties durations = new Properties();
+
+    private final Map<String, Long> recorded = new ConcurrentHashMap<>();
+
+    public BuildDurationHistory(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the durations of previous builds. A missing or unreadable file yields an empty history.
+     *
+     * @throws IOException If the history file exists but cannot be read.
+     */
+    public void load() throws IOException {
+        if (file.isFile()) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                durations.load(in);
+            }
+        }
+    }
+
+    /**
+     * @param project The project.
+     * @return The duration of the project in the previous build in milliseconds or {@code null} if unknown.
+     */
+    public Long getDuration(MavenProject project) {
+        String value = durations.getProperty(key(project));
+        if (value != null) {
+            try {
+                return Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the time spent building a project in this build, a project built in several task segments accumulates.
+     *
+     * @param project The project.
+     * @param millis The duration in milliseconds.
+     */
+    public void record(MavenProject project, long millis) {
+        recorded.merge(key(project), millis, Long::sum);
+    }
+
+    public boolean hasRecordings() {
+        return !recorded.isEmpty();
+    }
+
+    /**
+     * Writes the history, durations recorded in this build replace the previous ones of the same projects.
+     *
+     * @throws IOException If the history file cannot be written.
+     */
+    public void save() throws IOException {
+        for (Map.Entry<String, Long> entry : recorded.entrySet()) {
+            durations.setProperty(entry.getKey(), entry.getValue().toString());
+        }
+
+        Path target = file.toPath();
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                durations.store(out, "Build durations of the reactor projects in milliseconds");
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    private static String key(MavenProject project) {
+        return project.getGroupId() + ':' + project.getArtifactId();
+    }
+}
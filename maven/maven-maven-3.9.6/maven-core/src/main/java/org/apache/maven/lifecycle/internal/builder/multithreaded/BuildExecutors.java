@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.lifecycle.internal.BlockingSection;
+import org.apache.maven.lifecycle.internal.BuildThreadFactory;
+import org.codehaus.plexus.logging.Logger;
+
+/**
+ * <p>
+ * Creates the executor running the project builds of the multithreaded builder:
+ * </p>
+ * <ul>
+ * <li>{@code fixed}: a fixed pool of platform threads (default),</li>
+ * <li>{@code workStealing}: a work-stealing {@link ForkJoinPool}, which adds a thread while a build waits in a
+ * {@link BlockingSection},</li>
+ * <li>{@code virtual}: a virtual thread per project where the JVM supports it, with a permit per degree of
+ * concurrency that a build gives up while it waits in a {@link BlockingSection}.</li>
+ * </ul>
+ * <p>
+ * Builds wait in a blocking section while they resolve project dependencies, so other projects use the slot during
+ * downloads instead of leaving the core idle.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 3.9.7
+ */
+public final class BuildExecutors {
+
+    public static final String FIXED = "fixed";
+
+    public static final String WORK_STEALING = "workStealing";
+
+    public static final String VIRTUAL = "virtual";
+
+    private BuildExecutors() {}
+
+    /**
+     * @param strategy The executor strategy, {@code null} for the default.
+     * @param nThreads The degree of concurrency.
+     * @param logger The logger to report unknown or unsupported strategies.
+     * @return The executor, a fixed thread pool if the strategy is unknown or not supported by the JVM.
+     */
+    public static ExecutorService newExecutor(String strategy, int nThreads, Logger logger) {
+        if (strategy == null || FIXED.equalsIgnoreCase(strategy)) {
+            return newFixedExecutor(nThreads);
+        } else if (WORK_STEALING.equalsIgnoreCase(strategy)) {
+            return newWorkStealingExecutor(nThreads);
+        } else if (VIRTUAL.equalsIgnoreCase(strategy)) {
+            ExecutorService executor = newVirtualThreadExecutor();
+            if (executor != null) {
+                return new PermitExecutorService(executor, nThreads);
+            }
+            logger.warn("Virtual threads are not supported by this JVM, using a fixed thread pool");
+        } else {
+            logger.warn("Unknown build executor " + strategy + ", using a fixed thread pool");
+        }
+        return newFixedExecutor(nThreads);
+    }
+
+    private static ExecutorService newFixedExecutor(int nThreads) {
+        return Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
+    }
+
+    private static ExecutorService newWorkStealingExecutor(int nThreads) {
+        final AtomicInteger id = new AtomicInteger();
+        // unlike pool threads, fork join workers do not inherit the context class loader of the creating thread
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(
+                nThreads,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("BuilderThread " + id.getAndIncrement());
+                    thread.setContextClassLoader(contextClassLoader);
+                    return thread;
+                },
+                null,
+                true);
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            // Java 21+, looked up reflectively as Maven still runs on Java 8
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // older JVM or preview features not enabled
+            return null;
+        }
+    }
+
+    /**
+     * Runs each task only once it holds one of a fixed number of permits, so that an unbounded executor runs no more
+     * tasks at a time than there are permits. A task gives up its permit while it is in a {@link BlockingSection}.
+     */
+    static final class PermitExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService executor;
+
+        private final Semaphore permits;
+
+        PermitExecutorService(ExecutorService executor, int permits) {
+            this.executor = executor;
+            this.permits = new Semaphore(permits, true);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            executor.execute(() -> {
+                permits.acquireUninterruptibly();
+                BlockingSection.setPermits(permits);
+                try {
+                    command.run();
+                } finally {
+                    BlockingSection.setPermits(null);
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return executor.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executor.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executor.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return executor.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.lifecycle.internal.ProjectSegment;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * <p>
+ * Orders projects by the length of the longest dependency chain that still has to be built once they are started,
+ * longest first. Projects are weighted with their duration in the previous build, projects without history with the
+ * median of the known durations, or all alike if there is no history at all. Ties keep the reactor order.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 3.9.7
+ */
+public class CriticalPathComparator implements Comparator<MavenProject> {
+
+    private final Map<MavenProject, Long> remaining = new HashMap<>();
+
+    private final Map<MavenProject, Integer> order = new HashMap<>();
+
+    private final ProjectDependencyGraph projectDependencyGraph;
+
+    private final BuildDurationHistory history;
+
+    private final long defaultWeight;
+
+    public CriticalPathComparator(
+            ProjectBuildList projectBuilds,
+            ProjectDependencyGraph projectDependencyGraph,
+            BuildDurationHistory history) {
+        List<MavenProject> projects = new ArrayList<>();
+        for (ProjectSegment projectBuild : projectBuilds) {
+            if (!order.containsKey(projectBuild.getProject())) {
+                order.put(projectBuild.getProject(), order.size());
+                projects.add(projectBuild.getProject());
+            }
+        }
+
+        this.projectDependencyGraph = projectDependencyGraph;
+        this.history = history;
+        this.defaultWeight = getDefaultWeight(projects, history);
+
+        for (MavenProject project : projects) {
+            computeRemaining(project);
+        }
+    }
+
+    private long computeRemaining(MavenProject project) {
+        Long length = remaining.get(project);
+        if (length == null) {
+            // only projects of this segment count, the graph is acyclic
+            long longestDownstream = 0;
+            for (MavenProject downstream : projectDependencyGraph.getDownstreamProjects(project, false)) {
+                if (order.containsKey(downstream)) {
+                    longestDownstream = Math.max(longestDownstream, computeRemaining(downstream));
+                }
+            }
+            Long duration = history.getDuration(project);
+            length = (duration != null ? duration : defaultWeight) + longestDownstream;
+            remaining.put(project, length);
+        }
+        return length;
+    }
+
+    /**
+     * @param project The project.
+     * @return The weight of the longest chain of not yet built projects starting with the specified project.
+     */
+    public long getRemainingCriticalPath(MavenProject project) {
+        Long length = remaining.get(project);
+        return length != null ? length : 0;
+    }
+
+    @Override
+    public int compare(MavenProject p1, MavenProject p2) {
+        int result = Long.compare(getRemainingCriticalPath(p2), getRemainingCriticalPath(p1));
+        if (result == 0) {
+            result = Integer.compare(getOrder(p1), getOrder(p2));
+        }
+        return result;
+    }
+
+    private int getOrder(MavenProject project) {
+        Integer index = order.get(project);
+        return index != null ? index : Integer.MAX_VALUE;
+    }
+
+    private static long getDefaultWeight(List<MavenProject> projects, BuildDurationHistory history) {
+        List<Long> known = new ArrayList<>();
+        for (MavenProject project : projects) {
+            Long duration = history.getDuration(project);
+            if (duration != null) {
+                known.add(duration);
+            }
+        }
+        if (known.isEmpty()) {
+            return 1;
+        }
+        Collections.sort(known);
+        return Math.max(1, known.get(known.size() / 2));
+    }
+}
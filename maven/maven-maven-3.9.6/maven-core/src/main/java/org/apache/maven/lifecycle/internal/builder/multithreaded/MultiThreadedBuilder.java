@@ -18,20 +18,24 @@
  */
 package org.apache.maven.lifecycle.internal.builder.multithreaded;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.maven.execution.MavenSession;
-import org.apache.maven.lifecycle.internal.BuildThreadFactory;
 import org.apache.maven.lifecycle.internal.LifecycleModuleBuilder;
 import org.apache.maven.lifecycle.internal.ProjectBuildList;
 import org.apache.maven.lifecycle.internal.ProjectSegment;
@@ -64,6 +68,27 @@ public class MultiThreadedBuilder implements Builder {
     @Requirement
     private Logger logger;
 
+    /**
+     * Selects the order in which projects whose upstream projects are done get started: {@code fifo} (default)
+     * submits them as they become ready, {@code criticalPath} starts the projects heading the longest remaining
+     * dependency chains first, weighted with the project durations of the previous build.
+     */
+    public static final String SCHEDULING_PROPERTY = "maven.builder.scheduling";
+
+    /**
+     * Overrides the file keeping the project durations for the critical path scheduling, defaults to
+     * {@code .mvn/build-durations.properties} in the multi module project directory.
+     */
+    public static final String DURATION_HISTORY_PROPERTY = "maven.builder.durationHistory";
+
+    /**
+     * Selects the executor running the project builds: {@code fixed} (default) uses a fixed thread pool,
+     * {@code workStealing} a work-stealing pool and {@code virtual} a virtual thread per project on Java 21+ with no
+     * more projects building at a time than the degree of concurrency. The latter two let other projects build while
+     * one resolves its dependencies, see {@link BuildExecutors}.
+     */
+    public static final String EXECUTOR_PROPERTY = "maven.builder.executor";
+
     @Requirement
     private LifecycleModuleBuilder lifecycleModuleBuilder;
 
@@ -86,9 +111,12 @@ public void build(
         for (ProjectSegment segment : projectBuilds) {
             segment.getSession().setParallel(parallel);
         }
-        ExecutorService executor = Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
+        ExecutorService executor =
+                BuildExecutors.newExecutor(getProperty(session, EXECUTOR_PROPERTY), nThreads, logger);
         CompletionService<ProjectSegment> service = new ExecutorCompletionService<>(executor);
 
+        BuildDurationHistory history = parallel ? loadDurationHistory(session) : null;
+
         // Currently disabled
         ThreadOutputMuxer muxer = null; // new ThreadOutputMuxer( analyzer.getProjectBuilds(), System.out );
 
@@ -98,8 +126,20 @@ public void build(
             try {
                 ConcurrencyDependencyGraph analyzer =
                         new ConcurrencyDependencyGraph(segmentProjectBuilds, session.getProjectDependencyGraph());
+                Comparator<MavenProject> priority = history != null
+                        ? new CriticalPathComparator(segmentProjectBuilds, session.getProjectDependencyGraph(), history)
+                        : null;
                 multiThreadedProjectTaskSegmentBuild(
-                        analyzer, reactorContext, session, service, taskSegment, projectBuildMap, muxer);
+                        analyzer,
+                        reactorContext,
+                        session,
+                        service,
+                        taskSegment,
+                        projectBuildMap,
+                        muxer,
+                        priority,
+                        nThreads,
+                        history);
                 if (reactorContext.getReactorBuildStatus().isHalted()) {
                     break;
                 }
@@ -111,8 +151,57 @@ public void build(
 
         executor.shutdown();
         executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+        if (history != null && history.hasRecordings()) {
+            try {
+                history.save();
+            } catch (IOException e) {
+                logger.warn("Failed to write build duration history " + history.getFile() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private BuildDurationHistory loadDurationHistory(MavenSession session) {
+        String scheduling = getProperty(session, SCHEDULING_PROPERTY);
+        if (scheduling == null || "fifo".equalsIgnoreCase(scheduling)) {
+            return null;
+        }
+        if (!"criticalPath".equalsIgnoreCase(scheduling)) {
+            logger.warn("Unknown value for " + SCHEDULING_PROPERTY + ": " + scheduling + ", using fifo scheduling");
+            return null;
+        }
+
+        String path = getProperty(session, DURATION_HISTORY_PROPERTY);
+        File file;
+        if (path != null) {
+            file = new File(path);
+        } else {
+            File baseDirectory = session.getRequest().getMultiModuleProjectDirectory();
+            if (baseDirectory == null) {
+                baseDirectory = new File(session.getExecutionRootDirectory());
+            }
+            file = new File(baseDirectory, ".mvn/build-durations.properties");
+        }
+
+        BuildDurationHistory history = new BuildDurationHistory(file);
+        try {
+            history.load();
+        } catch (IOException e) {
+            logger.warn("Failed to read build duration history " + file + ": " + e.getMessage());
+        }
+        logger.debug("Scheduling projects by critical path, durations from " + file);
+        return history;
+    }
+
+    private static String getProperty(MavenSession session, String key) {
+        String value = session.getRequest().getUserProperties().getProperty(key);
+        if (value == null) {
+            value = session.getRequest().getSystemProperties().getProperty(key);
+        }
+        return value;
     }
 
+    @SuppressWarnings("checkstyle:parameternumber")
     private void multiThreadedProjectTaskSegmentBuild(
             ConcurrencyDependencyGraph analyzer,
             ReactorContext reactorContext,
@@ -120,24 +209,41 @@ private void multiThreadedProjectTaskSegmentBuild(
             CompletionService<ProjectSegment> service,
             TaskSegment taskSegment,
             Map<MavenProject, ProjectSegment> projectBuildList,
-            ThreadOutputMuxer muxer) {
+            ThreadOutputMuxer muxer,
+            Comparator<MavenProject> priority,
+            int nThreads,
+            BuildDurationHistory history) {
 
         // gather artifactIds which are not unique so that the respective thread names can be extended with the groupId
         Set<String> duplicateArtifactIds = gatherDuplicateArtifactIds(projectBuildList.keySet());
 
+        // without a priority every ready project is submitted right away and queued by the executor, with one the
+        // projects wait here until a thread is free so that the best one is picked at that time
+        Queue<MavenProject> readyProjects = priority != null
+                ? new PriorityQueue<MavenProject>(Math.max(1, projectBuildList.size()), priority)
+                : new ArrayDeque<MavenProject>();
+        int maxRunning = priority != null ? nThreads : Integer.MAX_VALUE;
+        int running = 0;
+
         // schedule independent projects
-        for (MavenProject mavenProject : analyzer.getRootSchedulableBuilds()) {
-            ProjectSegment projectSegment = projectBuildList.get(mavenProject);
-            logger.debug("Scheduling: " + projectSegment.getProject());
-            Callable<ProjectSegment> cb = createBuildCallable(
-                    rootSession, projectSegment, reactorContext, taskSegment, muxer, duplicateArtifactIds);
-            service.submit(cb);
-        }
+        readyProjects.addAll(analyzer.getRootSchedulableBuilds());
+        running += submitReadyProjects(
+                readyProjects,
+                maxRunning - running,
+                rootSession,
+                service,
+                reactorContext,
+                taskSegment,
+                projectBuildList,
+                muxer,
+                duplicateArtifactIds,
+                history);
 
         // for each finished project
         for (int i = 0; i < analyzer.getNumberOfBuilds(); i++) {
             try {
                 ProjectSegment projectBuild = service.take().get();
+                running--;
                 if (reactorContext.getReactorBuildStatus().isHalted()) {
                     break;
                 }
@@ -146,18 +252,18 @@ private void multiThreadedProjectTaskSegmentBuild(
                 if (analyzer.getNumberOfBuilds() > 1) {
                     final List<MavenProject> newItemsThatCanBeBuilt =
                             analyzer.markAsFinished(projectBuild.getProject());
-                    for (MavenProject mavenProject : newItemsThatCanBeBuilt) {
-                        ProjectSegment scheduledDependent = projectBuildList.get(mavenProject);
-                        logger.debug("Scheduling: " + scheduledDependent);
-                        Callable<ProjectSegment> cb = createBuildCallable(
-                                rootSession,
-                                scheduledDependent,
-                                reactorContext,
-                                taskSegment,
-                                muxer,
-                                duplicateArtifactIds);
-                        service.submit(cb);
-                    }
+                    readyProjects.addAll(newItemsThatCanBeBuilt);
+                    running += submitReadyProjects(
+                            readyProjects,
+                            maxRunning - running,
+                            rootSession,
+                            service,
+                            reactorContext,
+                            taskSegment,
+                            projectBuildList,
+                            muxer,
+                            duplicateArtifactIds,
+                            history);
                 }
             } catch (InterruptedException e) {
                 rootSession.getResult().addException(e);
@@ -170,13 +276,38 @@ private void multiThreadedProjectTaskSegmentBuild(
         }
     }
 
+    @SuppressWarnings("checkstyle:parameternumber")
+    private int submitReadyProjects(
+            Queue<MavenProject> readyProjects,
+            int freeThreads,
+            MavenSession rootSession,
+            CompletionService<ProjectSegment> service,
+            ReactorContext reactorContext,
+            TaskSegment taskSegment,
+            Map<MavenProject, ProjectSegment> projectBuildList,
+            ThreadOutputMuxer muxer,
+            Set<String> duplicateArtifactIds,
+            BuildDurationHistory history) {
+        int submitted = 0;
+        while (submitted < freeThreads && !readyProjects.isEmpty()) {
+            ProjectSegment projectSegment = projectBuildList.get(readyProjects.poll());
+            logger.debug("Scheduling: " + projectSegment);
+            Callable<ProjectSegment> cb = createBuildCallable(
+                    rootSession, projectSegment, reactorContext, taskSegment, muxer, duplicateArtifactIds, history);
+            service.submit(cb);
+            submitted++;
+        }
+        return submitted;
+    }
+
     private Callable<ProjectSegment> createBuildCallable(
             final MavenSession rootSession,
             final ProjectSegment projectBuild,
             final ReactorContext reactorContext,
             final TaskSegment taskSegment,
             final ThreadOutputMuxer muxer,
-            final Set<String> duplicateArtifactIds) {
+            final Set<String> duplicateArtifactIds,
+            final BuildDurationHistory history) {
         return new Callable<ProjectSegment>() {
             public ProjectSegment call() {
                 final Thread currentThread = Thread.currentThread();
@@ -189,10 +320,15 @@ public ProjectSegment call() {
                 currentThread.setName("mvn-builder-" + threadNameSuffix);
 
                 try {
+                    long start = System.nanoTime();
                     // muxer.associateThreadWithProjectSegment( projectBuild );
                     lifecycleModuleBuilder.buildProject(
                             projectBuild.getSession(), rootSession, reactorContext, project, taskSegment);
                     // muxer.setThisModuleComplete( projectBuild );
+                    if (history != null
+                            && !reactorContext.getReactorBuildStatus().isHaltedOrBlacklisted(project)) {
+                        history.record(project, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    }
 
                     return projectBuild;
                 } finally {
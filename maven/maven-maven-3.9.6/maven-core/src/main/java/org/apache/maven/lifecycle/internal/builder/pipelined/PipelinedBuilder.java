@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.pipelined;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.lifecycle.internal.BuildThreadFactory;
+import org.apache.maven.lifecycle.internal.LifecycleModuleBuilder;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.lifecycle.internal.ProjectSegment;
+import org.apache.maven.lifecycle.internal.ReactorBuildStatus;
+import org.apache.maven.lifecycle.internal.ReactorContext;
+import org.apache.maven.lifecycle.internal.StagedProjectBuild;
+import org.apache.maven.lifecycle.internal.TaskSegment;
+import org.apache.maven.lifecycle.internal.builder.Builder;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Extension;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.annotations.Component;
+import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.logging.Logger;
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * <p>
+ * Builds the projects in parallel like the multithreaded builder but splits every project build in two stages: the
+ * mojo executions up to the {@code process-classes} phase, and the rest. A project starts compiling as soon as the
+ * projects it only needs the classes of have finished their first stage, so its compilation overlaps with their tests
+ * and packaging. The second stage of a project still waits for the complete build of all its upstream projects, and
+ * projects that need more than the main classes of an upstream project (attached or non-jar artifacts, plugins,
+ * extensions) wait for it completely. Use {@code mvn -b pipelined -T n}.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 3.9.7
+ */
+@Component(role = Builder.class, hint = "pipelined")
+public class PipelinedBuilder implements Builder {
+
+    static final Collection<String> FIRST_STAGE_PHASES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "pre-clean",
+            "clean",
+            "post-clean",
+            "validate",
+            "initialize",
+            "generate-sources",
+            "process-sources",
+            "generate-resources",
+            "process-resources",
+            "compile",
+            "process-classes")));
+
+    private static final Collection<String> CLASSES_ONLY_TYPES =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList("jar", "ejb-client", "pom")));
+
+    @Requirement
+    private Logger logger;
+
+    @Requirement
+    private LifecycleModuleBuilder lifecycleModuleBuilder;
+
+    @Override
+    public void build(
+            MavenSession session,
+            ReactorContext reactorContext,
+            ProjectBuildList projectBuilds,
+            List<TaskSegment> taskSegments,
+            ReactorBuildStatus reactorBuildStatus)
+            throws ExecutionException, InterruptedException {
+        int nThreads = Math.min(
+                session.getRequest().getDegreeOfConcurrency(),
+                session.getProjects().size());
+        boolean parallel = nThreads > 1;
+        // Propagate the parallel flag to the root session and all of the cloned sessions in each project segment
+        session.setParallel(parallel);
+        for (ProjectSegment segment : projectBuilds) {
+            segment.getSession().setParallel(parallel);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, nThreads), new BuildThreadFactory());
+        CompletionService<Stage> service = new ExecutorCompletionService<>(executor);
+
+        Set<MavenProject> compiledProjects = getCompiledProjects(session);
+
+        for (TaskSegment taskSegment : taskSegments) {
+            ProjectBuildList segmentProjectBuilds = projectBuilds.getByTaskSegment(taskSegment);
+            try {
+                List<Stage> stages = createStages(segmentProjectBuilds, session.getProjectDependencyGraph());
+                buildStages(stages, reactorContext, session, service, taskSegment, compiledProjects);
+                if (reactorContext.getReactorBuildStatus().isHalted()) {
+                    break;
+                }
+            } catch (Exception e) {
+                session.getResult().addException(e);
+                break;
+            }
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    private static Set<MavenProject> getCompiledProjects(MavenSession session) {
+        RepositorySystemSession repositorySession = session.getRepositorySession();
+        if (repositorySession == null) {
+            return ConcurrentHashMap.newKeySet();
+        }
+        @SuppressWarnings("unchecked")
+        Set<MavenProject> compiledProjects = (Set<MavenProject>) repositorySession
+                .getData()
+                .computeIfAbsent(StagedProjectBuild.COMPILED_PROJECTS_KEY, ConcurrentHashMap::newKeySet);
+        return compiledProjects;
+    }
+
+    /**
+     * Creates the two stages of every project of a task segment, in reactor order, and wires them with the stages they
+     * have to wait for.
+     */
+    static List<Stage> createStages(ProjectBuildList projectBuilds, ProjectDependencyGraph projectDependencyGraph) {
+        Map<MavenProject, Stage> firstStages = new LinkedHashMap<>();
+        Map<MavenProject, Stage> secondStages = new LinkedHashMap<>();
+        for (ProjectSegment projectBuild : projectBuilds) {
+            Stage first = new Stage(projectBuild, null);
+            firstStages.put(projectBuild.getProject(), first);
+            secondStages.put(projectBuild.getProject(), new Stage(projectBuild, first));
+        }
+
+        for (MavenProject project : firstStages.keySet()) {
+            Stage first = firstStages.get(project);
+            Stage second = secondStages.get(project);
+            for (MavenProject upstream : projectDependencyGraph.getUpstreamProjects(project, false)) {
+                if (firstStages.containsKey(upstream)) {
+                    first.waitFor(
+                            needsOnlyClasses(project, upstream)
+                                    ? firstStages.get(upstream)
+                                    : secondStages.get(upstream));
+                    second.waitFor(secondStages.get(upstream));
+                }
+            }
+        }
+
+        List<Stage> stages = new ArrayList<>(firstStages.size() * 2);
+        for (MavenProject project : firstStages.keySet()) {
+            stages.add(firstStages.get(project));
+            stages.add(secondStages.get(project));
+        }
+        return stages;
+    }
+
+    /**
+     * @return {@code true} if the project only needs the POM or the main classes of the upstream project to compile.
+     */
+    static boolean needsOnlyClasses(MavenProject project, MavenProject upstream) {
+        for (Plugin plugin : project.getBuildPlugins()) {
+            if (matches(upstream, plugin.getGroupId(), plugin.getArtifactId())) {
+                return false;
+            }
+            for (Dependency dependency : plugin.getDependencies()) {
+                if (matches(upstream, dependency.getGroupId(), dependency.getArtifactId())) {
+                    return false;
+                }
+            }
+        }
+        for (Extension extension : project.getBuildExtensions()) {
+            if (matches(upstream, extension.getGroupId(), extension.getArtifactId())) {
+                return false;
+            }
+        }
+
+        boolean related = upstream.equals(project.getParent());
+        for (Dependency dependency : project.getDependencies()) {
+            if (matches(upstream, dependency.getGroupId(), dependency.getArtifactId())) {
+                if (dependency.getClassifier() != null
+                                && !dependency.getClassifier().isEmpty()
+                        || !CLASSES_ONLY_TYPES.contains(dependency.getType())) {
+                    return false;
+                }
+                related = true;
+            }
+        }
+        // anything else the dependency graph knows about, e.g. a reporting plugin, needs the full build
+        return related;
+    }
+
+    private static boolean matches(MavenProject project, String groupId, String artifactId) {
+        return Objects.equals(project.getGroupId(), groupId) && Objects.equals(project.getArtifactId(), artifactId);
+    }
+
+    private void buildStages(
+            List<Stage> stages,
+            ReactorContext reactorContext,
+            MavenSession rootSession,
+            CompletionService<Stage> service,
+            TaskSegment taskSegment,
+            Set<MavenProject> compiledProjects) {
+        for (Stage stage : stages) {
+            if (stage.isReady()) {
+                submit(stage, reactorContext, rootSession, service, taskSegment, compiledProjects);
+            }
+        }
+
+        for (int i = 0; i < stages.size(); i++) {
+            try {
+                Stage stage = service.take().get();
+                if (reactorContext.getReactorBuildStatus().isHalted()) {
+                    break;
+                }
+                for (Stage downstream : stage.finished()) {
+                    submit(downstream, reactorContext, rootSession, service, taskSegment, compiledProjects);
+                }
+            } catch (InterruptedException e) {
+                rootSession.getResult().addException(e);
+                break;
+            } catch (ExecutionException e) {
+                rootSession.getResult().addException(e);
+                break;
+            }
+        }
+    }
+
+    private void submit(
+            final Stage stage,
+            final ReactorContext reactorContext,
+            final MavenSession rootSession,
+            CompletionService<Stage> service,
+            final TaskSegment taskSegment,
+            final Set<MavenProject> compiledProjects) {
+        logger.debug("Scheduling: " + stage);
+        service.submit(() -> {
+            final Thread currentThread = Thread.currentThread();
+            final String originalThreadName = currentThread.getName();
+            final ProjectSegment projectBuild = stage.getProjectBuild();
+            final MavenProject project = projectBuild.getProject();
+            currentThread.setName("mvn-builder-" + project.getGroupId() + ":" + project.getArtifactId());
+
+            try {
+                if (stage.isFirst()) {
+                    stage.setBuild(lifecycleModuleBuilder.startProject(
+                            projectBuild.getSession(),
+                            rootSession,
+                            reactorContext,
+                            project,
+                            taskSegment,
+                            FIRST_STAGE_PHASES));
+                } else {
+                    StagedProjectBuild build = stage.getFirstStage().getBuild();
+                    if (build != null) {
+                        compiledProjects.add(project);
+                        try {
+                            lifecycleModuleBuilder.finishProject(build, reactorContext);
+                        } finally {
+                            compiledProjects.remove(project);
+                        }
+                    }
+                }
+                return stage;
+            } finally {
+                currentThread.setName(originalThreadName);
+            }
+        });
+    }
+
+    /**
+     * One of the two stages of a project build.
+     */
+    static final class Stage {
+
+        private final ProjectSegment projectBuild;
+
+        private final Stage firstStage;
+
+        private final List<Stage> downstreamStages = new ArrayList<>();
+
+        private int pending;
+
+        private volatile StagedProjectBuild build;
+
+        Stage(ProjectSegment projectBuild, Stage firstStage) {
+            this.projectBuild = projectBuild;
+            this.firstStage = firstStage;
+            if (firstStage != null) {
+                waitFor(firstStage);
+            }
+        }
+
+        void waitFor(Stage upstream) {
+            if (!upstream.downstreamStages.contains(this)) {
+                upstream.downstreamStages.add(this);
+                pending++;
+            }
+        }
+
+        boolean isReady() {
+            return pending == 0;
+        }
+
+        /**
+         * @return The stages that became ready with this one finished.
+         */
+        List<Stage> finished() {
+            List<Stage> ready = new ArrayList<>();
+            for (Stage downstream : downstreamStages) {
+                if (--downstream.pending == 0) {
+                    ready.add(downstream);
+                }
+            }
+            return ready;
+        }
+
+        boolean isFirst() {
+            return firstStage == null;
+        }
+
+        Stage getFirstStage() {
+            return firstStage;
+        }
+
+        ProjectSegment getProjectBuild() {
+            return projectBuild;
+        }
+
+        StagedProjectBuild getBuild() {
+            return build;
+        }
+
+        void setBuild(StagedProjectBuild build) {
+            this.build = build;
+        }
+
+        List<Stage> getDownstreamStages() {
+            return downstreamStages;
+        }
+
+        @Override
+        public String toString() {
+            return projectBuild.getProject().getId() + (isFirst() ? " (first stage)" : " (second stage)");
+        }
+    }
+}
@@ -31,6 +31,12 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
@@ -87,6 +93,12 @@ public class DefaultProjectBuilder implements ProjectBuilder {
     public static final String DISABLE_GLOBAL_MODEL_CACHE_SYSTEM_PROPERTY =
             "maven.defaultProjectBuilder.disableGlobalModelCache";
 
+    /**
+     * Number of threads used to load the POMs of a reactor, either a fixed count or a multiple of the available cores
+     * like {@code 1C}. The default of {@code 1} loads them sequentially.
+     */
+    public static final String PARALLELISM_PROPERTY = "maven.defaultProjectBuilder.parallelism";
+
     @Requirement
     private Logger logger;
 
@@ -364,8 +376,19 @@ public List<ProjectBuildingResult> build(List<File> pomFiles, boolean recursive,
 
         Map<String, MavenProject> projectIndex = new HashMap<>(256);
 
-        boolean noErrors = build(
-                results, interimResults, projectIndex, pomFiles, new LinkedHashSet<File>(), true, recursive, config);
+        int parallelism = getParallelism(request);
+
+        boolean noErrors = parallelism > 1
+                ? buildConcurrently(results, interimResults, projectIndex, pomFiles, recursive, config, parallelism)
+                : build(
+                        results,
+                        interimResults,
+                        projectIndex,
+                        pomFiles,
+                        new LinkedHashSet<File>(),
+                        true,
+                        recursive,
+                        config);
 
         populateReactorModelPool(modelPool, interimResults);
 
@@ -427,6 +450,49 @@ private boolean build(
             boolean isRoot,
             boolean recursive,
             InternalConfig config) {
+        PomLoad load = load(pomFile, isRoot, projectIndex, config);
+        if (load.failure != null) {
+            results.add(load.failure);
+
+            return false;
+        }
+
+        boolean noErrors = load.noErrors;
+
+        InterimResult interimResult = load.interimResult;
+        projectIndex.put(interimResult.result.getModelIds().get(0), interimResult.listener.getProject());
+        interimResults.add(interimResult);
+
+        if (recursive && !interimResult.result.getEffectiveModel().getModules().isEmpty()) {
+            List<File> moduleFiles = new ArrayList<>();
+
+            if (!collectModuleFiles(interimResult, aggregatorFiles, moduleFiles)) {
+                noErrors = false;
+            }
+
+            interimResult.modules = new ArrayList<>();
+
+            if (!build(
+                    results,
+                    interimResult.modules,
+                    projectIndex,
+                    moduleFiles,
+                    aggregatorFiles,
+                    false,
+                    recursive,
+                    config)) {
+                noErrors = false;
+            }
+        }
+
+        return noErrors;
+    }
+
+    /**
+     * Builds the phase-one model of a single POM. The project index is only read, to attach already known parents,
+     * so this may run concurrently for POMs of the same reactor level.
+     */
+    private PomLoad load(File pomFile, boolean isRoot, Map<String, MavenProject> projectIndex, InternalConfig config) {
         boolean noErrors = true;
 
         ModelBuildingRequest request = getModelBuildingRequest(config);
@@ -448,9 +514,7 @@ private boolean build(
         } catch (ModelBuildingException e) {
             result = e.getResult();
             if (result == null || result.getEffectiveModel() == null) {
-                results.add(new DefaultProjectBuildingResult(e.getModelId(), pomFile, e.getProblems()));
-
-                return false;
+                return new PomLoad(new DefaultProjectBuildingResult(e.getModelId(), pomFile, e.getProblems()));
             }
             // validation error, continue project building and delay failing to help IDEs
             // result.getProblems().addAll(e.getProblems()) ?
@@ -466,92 +530,204 @@ private boolean build(
                     .add(new DefaultModelProblem(null, ModelProblem.Severity.ERROR, null, model, -1, -1, iarte));
         }
 
-        projectIndex.put(result.getModelIds().get(0), project);
+        return new PomLoad(new InterimResult(pomFile, request, result, listener, isRoot), noErrors);
+    }
 
-        InterimResult interimResult = new InterimResult(pomFile, request, result, listener, isRoot);
-        interimResults.add(interimResult);
+    /**
+     * Resolves the module POMs declared by the given project, reporting missing modules and aggregation cycles as
+     * problems of the aggregator.
+     */
+    private boolean collectModuleFiles(InterimResult interimResult, Set<File> aggregatorFiles, List<File> moduleFiles) {
+        boolean noErrors = true;
 
-        if (recursive && !model.getModules().isEmpty()) {
-            File basedir = pomFile.getParentFile();
+        File pomFile = interimResult.pomFile;
+        ModelBuildingResult result = interimResult.result;
+        Model model = result.getEffectiveModel();
 
-            List<File> moduleFiles = new ArrayList<>();
+        File basedir = pomFile.getParentFile();
 
-            for (String module : model.getModules()) {
-                if (StringUtils.isEmpty(module)) {
-                    continue;
-                }
+        for (String module : model.getModules()) {
+            if (StringUtils.isEmpty(module)) {
+                continue;
+            }
 
-                module = module.replace('\\', File.separatorChar).replace('/', File.separatorChar);
+            module = module.replace('\\', File.separatorChar).replace('/', File.separatorChar);
 
-                File moduleFile = new File(basedir, module);
+            File moduleFile = new File(basedir, module);
 
-                if (moduleFile.isDirectory()) {
-                    moduleFile = modelProcessor.locatePom(moduleFile);
-                }
+            if (moduleFile.isDirectory()) {
+                moduleFile = modelProcessor.locatePom(moduleFile);
+            }
 
-                if (!moduleFile.isFile()) {
-                    ModelProblem problem = new DefaultModelProblem(
-                            "Child module " + moduleFile + " of " + pomFile + " does not exist",
-                            ModelProblem.Severity.ERROR,
-                            ModelProblem.Version.BASE,
-                            model,
-                            -1,
-                            -1,
-                            null);
-                    result.getProblems().add(problem);
+            if (!moduleFile.isFile()) {
+                ModelProblem problem = new DefaultModelProblem(
+                        "Child module " + moduleFile + " of " + pomFile + " does not exist",
+                        ModelProblem.Severity.ERROR,
+                        ModelProblem.Version.BASE,
+                        model,
+                        -1,
+                        -1,
+                        null);
+                result.getProblems().add(problem);
+
+                noErrors = false;
 
-                    noErrors = false;
+                continue;
+            }
 
-                    continue;
+            if (Os.isFamily(Os.FAMILY_WINDOWS)) {
+                // we don't canonicalize on unix to avoid interfering with symlinks
+                try {
+                    moduleFile = moduleFile.getCanonicalFile();
+                } catch (IOException e) {
+                    moduleFile = moduleFile.getAbsoluteFile();
                 }
+            } else {
+                moduleFile = new File(moduleFile.toURI().normalize());
+            }
 
-                if (Os.isFamily(Os.FAMILY_WINDOWS)) {
-                    // we don't canonicalize on unix to avoid interfering with symlinks
-                    try {
-                        moduleFile = moduleFile.getCanonicalFile();
-                    } catch (IOException e) {
-                        moduleFile = moduleFile.getAbsoluteFile();
-                    }
-                } else {
-                    moduleFile = new File(moduleFile.toURI().normalize());
+            if (aggregatorFiles.contains(moduleFile)) {
+                StringBuilder buffer = new StringBuilder(256);
+                for (File aggregatorFile : aggregatorFiles) {
+                    buffer.append(aggregatorFile).append(" -> ");
                 }
+                buffer.append(moduleFile);
+
+                ModelProblem problem = new DefaultModelProblem(
+                        "Child module " + moduleFile + " of " + pomFile + " forms aggregation cycle " + buffer,
+                        ModelProblem.Severity.ERROR,
+                        ModelProblem.Version.BASE,
+                        model,
+                        -1,
+                        -1,
+                        null);
+                result.getProblems().add(problem);
 
-                if (aggregatorFiles.contains(moduleFile)) {
-                    StringBuilder buffer = new StringBuilder(256);
-                    for (File aggregatorFile : aggregatorFiles) {
-                        buffer.append(aggregatorFile).append(" -> ");
-                    }
-                    buffer.append(moduleFile);
+                noErrors = false;
+
+                continue;
+            }
+
+            moduleFiles.add(moduleFile);
+        }
+
+        return noErrors;
+    }
 
-                    ModelProblem problem = new DefaultModelProblem(
-                            "Child module " + moduleFile + " of " + pomFile + " forms aggregation cycle " + buffer,
-                            ModelProblem.Severity.ERROR,
-                            ModelProblem.Version.BASE,
-                            model,
-                            -1,
-                            -1,
-                            null);
-                    result.getProblems().add(problem);
+    /**
+     * Phase one of the reactor build, one level of the module tree at a time: all POMs of a level are loaded
+     * concurrently, the modules they declare form the next level. Results are assembled afterwards in the same
+     * depth-first order the sequential build produces.
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private boolean buildConcurrently(
+            List<ProjectBuildingResult> results,
+            List<InterimResult> interimResults,
+            Map<String, MavenProject> projectIndex,
+            List<File> pomFiles,
+            boolean recursive,
+            InternalConfig config,
+            int parallelism)
+            throws ProjectBuildingException {
+        List<ReactorNode> roots = new ArrayList<>(pomFiles.size());
+        for (File pomFile : pomFiles) {
+            roots.add(new ReactorNode(pomFile, Collections.<File>emptySet(), true));
+        }
 
-                    noErrors = false;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ProjectLoaderThreadFactory());
+        try {
+            List<ReactorNode> level = roots;
+            while (!level.isEmpty()) {
+                List<Future<PomLoad>> loads = new ArrayList<>(level.size());
+                for (ReactorNode node : level) {
+                    loads.add(executor.submit(() -> load(node.pomFile, node.root, projectIndex, config)));
+                }
 
-                    continue;
+                // wait for the whole level before touching the project index, the loads read it
+                for (int i = 0; i < level.size(); i++) {
+                    level.get(i).load = await(loads.get(i), level.get(i).pomFile);
                 }
 
-                moduleFiles.add(moduleFile);
+                List<ReactorNode> nextLevel = new ArrayList<>();
+                for (ReactorNode node : level) {
+                    InterimResult interimResult = node.load.interimResult;
+                    if (interimResult == null) {
+                        continue;
+                    }
+
+                    projectIndex.put(interimResult.result.getModelIds().get(0), interimResult.listener.getProject());
+
+                    if (recursive
+                            && !interimResult
+                                    .result
+                                    .getEffectiveModel()
+                                    .getModules()
+                                    .isEmpty()) {
+                        List<File> moduleFiles = new ArrayList<>();
+                        node.modulesResolved = collectModuleFiles(interimResult, node.aggregatorFiles, moduleFiles);
+
+                        interimResult.modules = new ArrayList<>();
+                        for (File moduleFile : moduleFiles) {
+                            ReactorNode module = new ReactorNode(moduleFile, node.aggregatorFiles, false);
+                            node.modules.add(module);
+                            nextLevel.add(module);
+                        }
+                    }
+                }
+                level = nextLevel;
             }
+        } finally {
+            executor.shutdownNow();
+        }
 
-            interimResult.modules = new ArrayList<>();
+        boolean noErrors = true;
+        for (ReactorNode root : roots) {
+            if (!collect(results, interimResults, projectIndex, root)) {
+                noErrors = false;
+            }
+        }
+        return noErrors;
+    }
 
-            if (!build(
-                    results,
-                    interimResult.modules,
-                    projectIndex,
-                    moduleFiles,
-                    aggregatorFiles,
-                    false,
-                    recursive,
-                    config)) {
+    private PomLoad await(Future<PomLoad> load, File pomFile) throws ProjectBuildingException {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectBuildingException(null, "Interrupted while building " + pomFile, pomFile, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ProjectBuildingException(null, "Failed to build " + pomFile, pomFile, cause);
+        }
+    }
+
+    private boolean collect(
+            List<ProjectBuildingResult> results,
+            List<InterimResult> interimResults,
+            Map<String, MavenProject> projectIndex,
+            ReactorNode node) {
+        PomLoad load = node.load;
+        if (load.failure != null) {
+            results.add(load.failure);
+
+            return false;
+        }
+
+        boolean noErrors = load.noErrors && node.modulesResolved;
+
+        InterimResult interimResult = load.interimResult;
+        // re-index in depth-first order so that duplicate project ids resolve like in the sequential build
+        projectIndex.put(interimResult.result.getModelIds().get(0), interimResult.listener.getProject());
+        interimResults.add(interimResult);
+
+        for (ReactorNode module : node.modules) {
+            if (!collect(results, interimResult.modules, projectIndex, module)) {
                 noErrors = false;
             }
         }
@@ -559,6 +735,94 @@ private boolean build(
         return noErrors;
     }
 
+    private int getParallelism(ProjectBuildingRequest request) {
+        String value = null;
+        if (request.getUserProperties() != null) {
+            value = request.getUserProperties().getProperty(PARALLELISM_PROPERTY);
+        }
+        if (value == null && request.getSystemProperties() != null) {
+            value = request.getSystemProperties().getProperty(PARALLELISM_PROPERTY);
+        }
+        if (value == null) {
+            value = System.getProperty(PARALLELISM_PROPERTY);
+        }
+        if (StringUtils.isEmpty(value)) {
+            return 1;
+        }
+
+        value = value.trim();
+        try {
+            // same notation as -T: 4 or 1.5C (per core)
+            if (value.endsWith("C") || value.endsWith("c")) {
+                float perCore = Float.parseFloat(value.substring(0, value.length() - 1));
+                return Math.max(1, (int) (perCore * Runtime.getRuntime().availableProcessors()));
+            }
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value for " + PARALLELISM_PROPERTY + ": " + value + ", loading projects sequentially");
+            return 1;
+        }
+    }
+
+    /**
+     * Phase-one outcome of a single POM: the interim result or, if not even an effective model could be built, the
+     * failed project building result.
+     */
+    static class PomLoad {
+
+        InterimResult interimResult;
+
+        ProjectBuildingResult failure;
+
+        boolean noErrors;
+
+        PomLoad(InterimResult interimResult, boolean noErrors) {
+            this.interimResult = interimResult;
+            this.noErrors = noErrors;
+        }
+
+        PomLoad(ProjectBuildingResult failure) {
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * A POM of the module tree visited by the concurrent phase one.
+     */
+    static class ReactorNode {
+
+        File pomFile;
+
+        boolean root;
+
+        Set<File> aggregatorFiles;
+
+        PomLoad load;
+
+        boolean modulesResolved = true;
+
+        List<ReactorNode> modules = new ArrayList<>();
+
+        ReactorNode(File pomFile, Set<File> parentAggregatorFiles, boolean root) {
+            this.pomFile = pomFile;
+            this.root = root;
+            this.aggregatorFiles = new LinkedHashSet<>(parentAggregatorFiles);
+            this.aggregatorFiles.add(pomFile);
+        }
+    }
+
+    static class ProjectLoaderThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "project-loader-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
     static class InterimResult {
 
         File pomFile;
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+public class BlockingSectionTest extends TestCase {
+
+    public void testReleasesPermitWhileBlocked() throws Exception {
+        Semaphore permits = new Semaphore(1);
+        permits.acquire();
+        BlockingSection.setPermits(permits);
+        try {
+            int available = BlockingSection.run(permits::availablePermits);
+            assertEquals(1, available);
+            assertEquals(0, permits.availablePermits());
+        } finally {
+            BlockingSection.setPermits(null);
+        }
+    }
+
+    public void testKeepsPermitOnFailure() {
+        Semaphore permits = new Semaphore(1);
+        permits.acquireUninterruptibly();
+        BlockingSection.setPermits(permits);
+        try {
+            BlockingSection.<Void, IOException>run(() -> {
+                throw new IOException("failure");
+            });
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertEquals("failure", e.getMessage());
+            assertEquals(0, permits.availablePermits());
+        } finally {
+            BlockingSection.setPermits(null);
+        }
+    }
+
+    public void testForkJoinPoolCompensatesBlockedWorker() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        try {
+            // the only worker waits for a task submitted after it, the pool has to add a thread
+            Future<Boolean> waiting = pool.submit(() -> BlockingSection.<Boolean, InterruptedException>run(() -> {
+                blocked.countDown();
+                return released.await(10, TimeUnit.SECONDS);
+            }));
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+            pool.submit(released::countDown);
+            assertTrue(waiting.get(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public void testForkJoinPoolRethrowsFailure() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            Future<String> failure = pool.submit(() -> {
+                try {
+                    BlockingSection.<Void, IOException>run(() -> {
+                        throw new IOException("failure");
+                    });
+                    return null;
+                } catch (IOException e) {
+                    return e.getMessage();
+                }
+            });
+            assertEquals("failure", failure.get(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+import org.apache.maven.lifecycle.internal.BlockingSection;
+import org.codehaus.plexus.logging.Logger;
+import org.codehaus.plexus.logging.console.ConsoleLogger;
+
+public class BuildExecutorsTest extends TestCase {
+
+    private final Logger logger = new ConsoleLogger(Logger.LEVEL_DISABLED, "test");
+
+    public void testFixedIsDefaultAndFallback() throws Exception {
+        assertFixed(BuildExecutors.newExecutor(null, 2, logger), 2);
+        assertFixed(BuildExecutors.newExecutor("fixed", 3, logger), 3);
+        assertFixed(BuildExecutors.newExecutor("unknown", 4, logger), 4);
+    }
+
+    public void testWorkStealing() throws Exception {
+        ExecutorService executor = BuildExecutors.newExecutor("workStealing", 3, logger);
+        try {
+            assertTrue(executor instanceof ForkJoinPool);
+            assertEquals(3, ((ForkJoinPool) executor).getParallelism());
+            assertEquals("done", executor.submit(() -> "done").get());
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    public void testWorkStealingWorkersUseCallerContextClassLoader() throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        ClassLoader realm = new URLClassLoader(new URL[0], original);
+        thread.setContextClassLoader(realm);
+        ExecutorService executor;
+        try {
+            executor = BuildExecutors.newExecutor("workStealing", 2, logger);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        try {
+            assertSame(
+                    realm,
+                    executor.submit(() -> Thread.currentThread().getContextClassLoader())
+                            .get());
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    public void testVirtualFallsBackToFixedWhereUnsupported() throws Exception {
+        ExecutorService executor = BuildExecutors.newExecutor("virtual", 2, logger);
+        try {
+            assertTrue(
+                    executor instanceof BuildExecutors.PermitExecutorService || executor instanceof ThreadPoolExecutor);
+            assertEquals("done", executor.submit(() -> "done").get());
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    public void testPermitsBoundConcurrency() throws Exception {
+        ExecutorService executor = new BuildExecutors.PermitExecutorService(Executors.newCachedThreadPool(), 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    started.countDown();
+                    try {
+                        release.await();
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return null;
+                }));
+            }
+            // the first two tasks hold the permits until released, the others queue up
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(2, maxRunning.get());
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    public void testBlockingSectionFreesPermit() throws Exception {
+        ExecutorService executor = new BuildExecutors.PermitExecutorService(Executors.newCachedThreadPool(), 1);
+        CountDownLatch released = new CountDownLatch(1);
+        try {
+            // the first task holds the only permit until the second one runs, which it can only while blocked
+            Future<Boolean> waiting = executor.submit(() ->
+                    BlockingSection.<Boolean, InterruptedException>run(() -> released.await(10, TimeUnit.SECONDS)));
+            executor.submit(released::countDown);
+            assertTrue(waiting.get(10, TimeUnit.SECONDS));
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    private static void assertFixed(ExecutorService executor, int nThreads) throws Exception {
+        try {
+            assertTrue(executor instanceof ThreadPoolExecutor);
+            assertEquals(nThreads, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
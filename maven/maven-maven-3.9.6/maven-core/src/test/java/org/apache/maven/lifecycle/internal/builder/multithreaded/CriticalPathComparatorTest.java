@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub;
+import org.apache.maven.project.MavenProject;
+
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.A;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.B;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.C;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.X;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Y;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Z;
+
+public class CriticalPathComparatorTest extends TestCase {
+
+    private File historyFile;
+
+    @Override
+    protected void setUp() throws Exception {
+        historyFile = File.createTempFile("build-durations", ".properties");
+        historyFile.delete();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        historyFile.delete();
+    }
+
+    public void testWithoutHistoryLongestChainThenReactorOrder() throws Exception {
+        CriticalPathComparator comparator = newComparator(new BuildDurationHistory(historyFile));
+
+        // A -> B -> X is as long as A -> B -> Y, A -> C -> X and A -> C -> Z
+        assertEquals(3, comparator.getRemainingCriticalPath(A));
+        assertEquals(2, comparator.getRemainingCriticalPath(B));
+        assertEquals(1, comparator.getRemainingCriticalPath(Z));
+
+        assertEquals(Arrays.asList(A, B, C, X, Y, Z), sorted(comparator, Z, Y, X, C, B, A));
+    }
+
+    public void testSlowChainStartsFirst() throws Exception {
+        BuildDurationHistory history = new BuildDurationHistory(historyFile);
+        history.record(A, 1000);
+        history.record(B, 1000);
+        history.record(C, 10000);
+        history.record(X, 1000);
+        history.record(Y, 1000);
+        history.record(Z, 60000);
+        history.save();
+
+        BuildDurationHistory loaded = new BuildDurationHistory(historyFile);
+        loaded.load();
+        assertEquals(Long.valueOf(60000), loaded.getDuration(Z));
+
+        CriticalPathComparator comparator = newComparator(loaded);
+
+        assertEquals(71000, comparator.getRemainingCriticalPath(A));
+        assertEquals(70000, comparator.getRemainingCriticalPath(C));
+        assertEquals(2000, comparator.getRemainingCriticalPath(B));
+
+        // C heads the Z chain, it must start before B although B comes first in the reactor
+        assertEquals(Arrays.asList(C, B), sorted(comparator, B, C));
+        assertEquals(Arrays.asList(Z, X, Y), sorted(comparator, X, Y, Z));
+    }
+
+    public void testProjectsWithoutHistoryUseMedian() throws Exception {
+        BuildDurationHistory history = new BuildDurationHistory(historyFile);
+        history.record(A, 100);
+        history.record(B, 500);
+        history.record(Y, 900);
+        history.save();
+
+        BuildDurationHistory loaded = new BuildDurationHistory(historyFile);
+        loaded.load();
+        CriticalPathComparator comparator = newComparator(loaded);
+
+        assertEquals(500, comparator.getRemainingCriticalPath(Z));
+        assertEquals(1000, comparator.getRemainingCriticalPath(C));
+        assertEquals(1400, comparator.getRemainingCriticalPath(B));
+    }
+
+    public void testRecordingsAccumulateAndKeepOlderEntries() throws Exception {
+        BuildDurationHistory history = new BuildDurationHistory(historyFile);
+        history.record(A, 100);
+        history.record(B, 100);
+        history.save();
+
+        BuildDurationHistory next = new BuildDurationHistory(historyFile);
+        next.load();
+        next.record(A, 300);
+        next.record(A, 200);
+        next.save();
+
+        BuildDurationHistory loaded = new BuildDurationHistory(historyFile);
+        loaded.load();
+        assertEquals(Long.valueOf(500), loaded.getDuration(A));
+        assertEquals(Long.valueOf(100), loaded.getDuration(B));
+        assertNull(loaded.getDuration(C));
+        assertTrue(Files.isRegularFile(historyFile.toPath()));
+    }
+
+    private CriticalPathComparator newComparator(BuildDurationHistory history) throws Exception {
+        ProjectBuildList projectBuildList =
+                ProjectDependencyGraphStub.getProjectBuildList(ProjectDependencyGraphStub.getMavenSession());
+        return new CriticalPathComparator(projectBuildList, new ProjectDependencyGraphStub(), history);
+    }
+
+    private static List<MavenProject> sorted(CriticalPathComparator comparator, MavenProject... projects) {
+        List<MavenProject> result = new ArrayList<>(Arrays.asList(projects));
+        Collections.sort(result, comparator);
+        return result;
+    }
+}
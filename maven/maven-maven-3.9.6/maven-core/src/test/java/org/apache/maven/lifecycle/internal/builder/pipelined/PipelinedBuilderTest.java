@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.pipelined;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.AbstractExecutionListener;
+import org.apache.maven.execution.BuildFailure;
+import org.apache.maven.execution.BuildSuccess;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectExecutionEvent;
+import org.apache.maven.execution.ProjectExecutionListener;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
+import org.apache.maven.lifecycle.internal.LifecycleModuleBuilder;
+import org.apache.maven.lifecycle.internal.LifecycleStarter;
+import org.apache.maven.lifecycle.internal.ProjectIndex;
+import org.apache.maven.lifecycle.internal.builder.pipelined.PipelinedBuilder.Stage;
+import org.apache.maven.lifecycle.internal.stub.MojoExecutorStub;
+import org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.ContainerConfiguration;
+import org.codehaus.plexus.PlexusConstants;
+import org.codehaus.plexus.PlexusTestCase;
+
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.A;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.B;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.C;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.X;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Y;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Z;
+
+public class PipelinedBuilderTest extends PlexusTestCase {
+    @Override
+    protected void customizeContainerConfiguration(ContainerConfiguration configuration) {
+        configuration.setAutoWiring(true);
+        configuration.setClassPathScanning(PlexusConstants.SCANNING_INDEX);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        for (MavenProject project : Arrays.asList(A, B, C, X, Y, Z)) {
+            project.getModel().setDependencies(new ArrayList<Dependency>());
+        }
+        super.tearDown();
+    }
+
+    public void testDependencyOnMainClassesOnlyWaitsForFirstStage() throws Exception {
+        B.getModel().addDependency(dependency(A, "jar", null));
+        X.getModel().addDependency(dependency(B, "jar", null));
+        X.getModel().addDependency(dependency(C, "test-jar", "tests"));
+
+        List<Stage> stages = PipelinedBuilder.createStages(
+                ProjectDependencyGraphStub.getProjectBuildList(ProjectDependencyGraphStub.getMavenSession()),
+                new ProjectDependencyGraphStub());
+
+        assertEquals(12, stages.size());
+        assertTrue(stages.get(0).isReady());
+        assertFalse(stages.get(1).isReady());
+
+        // B compiles against the classes of A, C has no known use of A and waits for its complete build
+        assertTrue(stages.get(0).getDownstreamStages().contains(stage(stages, B, true)));
+        assertFalse(stages.get(1).getDownstreamStages().contains(stage(stages, B, true)));
+        assertTrue(stage(stages, A, false).getDownstreamStages().contains(stage(stages, C, true)));
+
+        // the test jar of C is only there once C is completely built
+        assertTrue(stage(stages, B, true).getDownstreamStages().contains(stage(stages, X, true)));
+        assertTrue(stage(stages, C, false).getDownstreamStages().contains(stage(stages, X, true)));
+
+        // second stages always wait for the complete upstream builds
+        assertTrue(stage(stages, B, false).getDownstreamStages().contains(stage(stages, X, false)));
+        assertTrue(stage(stages, C, false).getDownstreamStages().contains(stage(stages, X, false)));
+
+        List<Stage> ready = stage(stages, A, true).finished();
+        assertEquals(Arrays.asList(stage(stages, A, false), stage(stages, B, true)), ready);
+    }
+
+    public void testNeedsOnlyClasses() {
+        MavenProject upstream = project("upstream");
+
+        MavenProject dependent = project("dependent");
+        dependent.getModel().addDependency(dependency(upstream, "jar", null));
+        assertTrue(PipelinedBuilder.needsOnlyClasses(dependent, upstream));
+
+        MavenProject child = project("child");
+        child.setParent(upstream);
+        assertTrue(PipelinedBuilder.needsOnlyClasses(child, upstream));
+
+        MavenProject overlay = project("overlay");
+        overlay.getModel().addDependency(dependency(upstream, "war", null));
+        assertFalse(PipelinedBuilder.needsOnlyClasses(overlay, upstream));
+
+        MavenProject plugin = project("plugin");
+        plugin.getModel().addDependency(dependency(upstream, "jar", null));
+        Plugin buildPlugin = new Plugin();
+        buildPlugin.setGroupId(upstream.getGroupId());
+        buildPlugin.setArtifactId(upstream.getArtifactId());
+        plugin.getModel().setBuild(new Build());
+        plugin.getModel().getBuild().addPlugin(buildPlugin);
+        assertFalse(PipelinedBuilder.needsOnlyClasses(plugin, upstream));
+
+        assertFalse(PipelinedBuilder.needsOnlyClasses(project("unrelated"), upstream));
+    }
+
+    public void testBuildsAllProjects() throws Exception {
+        List<MavenProject> currentProjects = Collections.synchronizedList(new ArrayList<MavenProject>());
+        MojoExecutorStub mojoExecutor = new MojoExecutorStub() {
+            @Override
+            public void execute(MavenSession session, List<MojoExecution> mojoExecutions, ProjectIndex projectIndex)
+                    throws LifecycleExecutionException {
+                super.execute(session, mojoExecutions, projectIndex);
+                currentProjects.add(session.getCurrentProject());
+            }
+        };
+
+        MavenExecutionRequest mavenExecutionRequest = new DefaultMavenExecutionRequest();
+        mavenExecutionRequest.setExecutionListener(new AbstractExecutionListener());
+        mavenExecutionRequest.setGoals(Arrays.asList("clean"));
+        mavenExecutionRequest.setBuilderId("pipelined");
+        mavenExecutionRequest.setDegreeOfConcurrency(3);
+        final MavenSession session =
+                new MavenSession(null, null, mavenExecutionRequest, new DefaultMavenExecutionResult());
+        final ProjectDependencyGraphStub dependencyGraphStub = new ProjectDependencyGraphStub();
+        session.setProjectDependencyGraph(dependencyGraphStub);
+        session.setProjects(dependencyGraphStub.getSortedProjects());
+
+        LifecycleModuleBuilder moduleBuilder = lookup(LifecycleModuleBuilder.class);
+        set(moduleBuilder, "mojoExecutor", mojoExecutor);
+
+        lookup(LifecycleStarter.class).execute(session);
+
+        assertTrue(
+                session.getResult().getExceptions().toString(),
+                session.getResult().getExceptions().isEmpty());
+        for (MavenProject project : dependencyGraphStub.getSortedProjects()) {
+            assertTrue(project.getArtifactId(), session.getResult().getBuildSummary(project) instanceof BuildSuccess);
+        }
+        assertEquals(new HashSet<>(dependencyGraphStub.getSortedProjects()), new HashSet<>(currentProjects));
+    }
+
+    public void testUpstreamFailureAfterDownstreamCompiledSkipsDownstream() throws Exception {
+        B.getModel().addDependency(dependency(A, "jar", null));
+
+        // A fails in its second stage, but only once the first stage of B has started
+        CountDownLatch downstreamStarted = new CountDownLatch(1);
+        MojoExecutorStub mojoExecutor = new MojoExecutorStub() {
+            @Override
+            public void execute(MavenSession session, List<MojoExecution> mojoExecutions, ProjectIndex projectIndex)
+                    throws LifecycleExecutionException {
+                if (session.getCurrentProject() == A) {
+                    try {
+                        assertTrue(downstreamStarted.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        throw new LifecycleExecutionException(e);
+                    }
+                    throw new LifecycleExecutionException("failure", A);
+                }
+            }
+        };
+        List<MavenProject> failedListenerEvents = Collections.synchronizedList(new ArrayList<MavenProject>());
+        ProjectExecutionListener listener = new ProjectExecutionListener() {
+            @Override
+            public void beforeProjectExecution(ProjectExecutionEvent event) {}
+
+            @Override
+            public void afterProjectExecutionSuccess(ProjectExecutionEvent event) {}
+
+            @Override
+            public void beforeProjectLifecycleExecution(ProjectExecutionEvent event) {
+                if (event.getProject() == B) {
+                    downstreamStarted.countDown();
+                }
+            }
+
+            @Override
+            public void afterProjectExecutionFailure(ProjectExecutionEvent event) {
+                failedListenerEvents.add(event.getProject());
+            }
+        };
+        List<MavenProject> skipped = Collections.synchronizedList(new ArrayList<MavenProject>());
+
+        MavenExecutionRequest mavenExecutionRequest = new DefaultMavenExecutionRequest();
+        mavenExecutionRequest.setExecutionListener(new AbstractExecutionListener() {
+            @Override
+            public void projectSkipped(ExecutionEvent event) {
+                skipped.add(event.getProject());
+            }
+        });
+        mavenExecutionRequest.setGoals(Arrays.asList("clean"));
+        mavenExecutionRequest.setBuilderId("pipelined");
+        mavenExecutionRequest.setDegreeOfConcurrency(3);
+        mavenExecutionRequest.setReactorFailureBehavior(MavenExecutionRequest.REACTOR_FAIL_AT_END);
+        final MavenSession session =
+                new MavenSession(null, null, mavenExecutionRequest, new DefaultMavenExecutionResult());
+        // blacklisting a failed project needs its transitive downstream projects
+        final ProjectDependencyGraphStub dependencyGraphStub = new ProjectDependencyGraphStub() {
+            @Override
+            public List<MavenProject> getDownstreamProjects(MavenProject project, boolean transitive) {
+                List<MavenProject> result = new ArrayList<>(super.getDownstreamProjects(project, false));
+                if (transitive) {
+                    for (MavenProject downstream : super.getDownstreamProjects(project, false)) {
+                        result.addAll(getDownstreamProjects(downstream, true));
+                    }
+                }
+                return result;
+            }
+        };
+        session.setProjectDependencyGraph(dependencyGraphStub);
+        session.setProjects(dependencyGraphStub.getSortedProjects());
+
+        LifecycleModuleBuilder moduleBuilder = lookup(LifecycleModuleBuilder.class);
+        set(moduleBuilder, "mojoExecutor", mojoExecutor);
+        moduleBuilder.setProjectExecutionListeners(Collections.singletonList(listener));
+
+        lookup(LifecycleStarter.class).execute(session);
+
+        assertEquals(
+                session.getResult().getExceptions().toString(),
+                1,
+                session.getResult().getExceptions().size());
+        assertTrue(session.getResult().getBuildSummary(A) instanceof BuildFailure);
+        for (MavenProject project : Arrays.asList(B, C, X, Y, Z)) {
+            assertNull(project.getArtifactId(), session.getResult().getBuildSummary(project));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(B, C, X, Y, Z)), new HashSet<>(skipped));
+        // B had started, its listeners see the build end
+        assertEquals(new HashSet<>(Arrays.asList(A, B)), new HashSet<>(failedListenerEvents));
+    }
+
+    private static Stage stage(List<Stage> stages, MavenProject project, boolean first) {
+        for (Stage stage : stages) {
+            if (stage.getProjectBuild().getProject() == project && stage.isFirst() == first) {
+                return stage;
+            }
+        }
+        throw new IllegalArgumentException(project.getArtifactId());
+    }
+
+    private static MavenProject project(String artifactId) {
+        Model model = new Model();
+        model.setGroupId("test");
+        model.setArtifactId(artifactId);
+        model.setVersion("1");
+        return new MavenProject(model);
+    }
+
+    private static Dependency dependency(MavenProject project, String type, String classifier) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(project.getGroupId());
+        dependency.setArtifactId(project.getArtifactId());
+        dependency.setVersion(project.getVersion());
+        dependency.setType(type);
+        dependency.setClassifier(classifier);
+        return dependency;
+    }
+
+    static void set(Object obj, String field, Object v) throws NoSuchFieldException, IllegalAccessException {
+        Field f = obj.getClass().getDeclaredField(field);
+        f.setAccessible(true);
+        f.set(obj, v);
+    }
+}
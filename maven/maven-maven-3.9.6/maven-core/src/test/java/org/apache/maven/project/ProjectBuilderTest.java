@@ -22,6 +22,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
@@ -36,6 +37,7 @@
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.building.FileModelSource;
 import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelProblem;
 import org.apache.maven.model.building.ModelSource;
 
 import static org.hamcrest.Matchers.containsString;
@@ -286,6 +288,66 @@ private void assertResultShowNoError(List<ProjectBuildingResult> results) {
         }
     }
 
+    public void testParallelProjectLoadingKeepsReactorOrder() throws Exception {
+        File pom = getProject("parallel-reactor");
+
+        List<ProjectBuildingResult> sequential = buildReactor(pom, "1");
+        List<ProjectBuildingResult> parallel = buildReactor(pom, "4");
+
+        assertResultShowNoError(parallel);
+        assertEquals(Arrays.asList("a", "b1", "b2", "b", "c", "root"), describe(parallel));
+        assertEquals(describe(sequential), describe(parallel));
+
+        for (ProjectBuildingResult result : parallel) {
+            MavenProject project = result.getProject();
+            if (project.getArtifactId().startsWith("b")
+                    && !project.getArtifactId().equals("b")) {
+                assertEquals("b", project.getParent().getArtifactId());
+            }
+        }
+    }
+
+    public void testParallelProjectLoadingReportsProblemsLikeSequentialLoading() throws Exception {
+        File pom = getProject("parallel-reactor-broken");
+
+        List<String> sequential = describe(buildReactor(pom, "1"));
+        List<String> parallel = describe(buildReactor(pom, "4"));
+
+        assertEquals(sequential, parallel);
+        assertThat(parallel.toString(), containsString("does not exist"));
+        assertThat(parallel.toString(), containsString("broken"));
+    }
+
+    private List<ProjectBuildingResult> buildReactor(File pom, String parallelism) throws Exception {
+        MavenSession mavenSession = createMavenSession(null);
+        ProjectBuildingRequest configuration = new DefaultProjectBuildingRequest();
+        configuration.setRepositorySession(mavenSession.getRepositorySession());
+        Properties userProperties = new Properties();
+        userProperties.setProperty(DefaultProjectBuilder.PARALLELISM_PROPERTY, parallelism);
+        configuration.setUserProperties(userProperties);
+
+        try {
+            return lookup(org.apache.maven.project.ProjectBuilder.class)
+                    .build(Collections.singletonList(pom), true, configuration);
+        } catch (ProjectBuildingException e) {
+            return e.getResults();
+        }
+    }
+
+    private List<String> describe(List<ProjectBuildingResult> results) {
+        List<String> descriptions = new ArrayList<>();
+        for (ProjectBuildingResult result : results) {
+            String description = result.getProject() != null
+                    ? result.getProject().getArtifactId()
+                    : result.getPomFile().getParentFile().getName();
+            for (ModelProblem problem : result.getProblems()) {
+                description += " " + problem.getMessage();
+            }
+            descriptions.add(description);
+        }
+        return descriptions;
+    }
+
     public void testBuildProperties() throws Exception {
         File file = new File(getProject("MNG-6716").getParentFile(), "project/pom.xml");
         MavenSession mavenSession = createMavenSession(null);
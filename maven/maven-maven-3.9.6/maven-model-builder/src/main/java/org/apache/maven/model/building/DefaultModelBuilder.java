@@ -247,6 +247,25 @@ public ModelBuildingResult build(ModelBuildingRequest request) throws ModelBuild
     protected ModelBuildingResult build(ModelBuildingRequest request, Collection<String> importIds)
             throws ModelBuildingException {
         // phase 1
+        PersistentModelCache persistentCache = PersistentModelCache.newInstance(request);
+        if (persistentCache != null) {
+            DefaultModelBuildingResult cached = persistentCache.load();
+            if (cached != null) {
+                // the resolver still needs the repositories of the effective model for phase 2
+                configureResolver(
+                        request.getModelResolver(),
+                        cached.getEffectiveModel(),
+                        new DefaultModelProblemCollector(cached),
+                        true);
+
+                if (!request.isTwoPhaseBuilding()) {
+                    build(request, cached, importIds);
+                }
+
+                return cached;
+            }
+        }
+
         DefaultModelBuildingResult result = new DefaultModelBuildingResult();
 
         DefaultModelProblemCollector problems = new DefaultModelProblemCollector(result);
@@ -406,6 +425,10 @@ protected ModelBuildingResult build(ModelBuildingRequest request, Collection<Str
             result.setRawModel(modelId, currentData.getRawModel());
         }
 
+        if (persistentCache != null) {
+            persistentCache.store(result, lineage.subList(0, lineage.size() - 1));
+        }
+
         if (!request.isTwoPhaseBuilding()) {
             build(request, result, importIds);
         }
@@ -0,0 +1,487 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.model.building;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.Profile;
+
+/**
+ * Persists the phase-one result of {@link DefaultModelBuilder} (inheritance, profile injection and interpolation of a
+ * POM file) across builds. Enabled by setting {@value #CACHE_DIRECTORY_PROPERTY} to a directory, relative paths are
+ * resolved against {@code maven.multiModuleProjectDirectory}.
+ * <p>
+ * An entry is keyed by the POM path, the request settings, the active and inactive profile ids, the external profiles
+ * and the user and system properties. It records the content hashes of every POM in the parent chain, of the POMs
+ * found at each parent's relative path and the values of the environment variables those POMs mention, and is only
+ * used while all of them are unchanged. Lineages that depend on inputs which cannot be fingerprinted cheaply (file
+ * based profile activation, {@code maven.build.timestamp}, parent version ranges, snapshot parents resolved from a
+ * repository) are not cached. Phase two, including the import of BOMs, always runs.
+ *
+ * @since 3.9.7
+ */
+final class PersistentModelCache {
+
+    static final String CACHE_DIRECTORY_PROPERTY = "maven.modelBuilder.cacheDirectory";
+
+    private static final String FORMAT = "1";
+
+    /**
+     * System properties which change between otherwise identical invocations.
+     */
+    private static final Collection<String> VOLATILE_PROPERTIES = Arrays.asList("sun.java.command");
+
+    private static final Pattern ENV_REFERENCE = Pattern.compile("env\\.([A-Za-z0-9_]+)");
+
+    private static final String ABSENT = "absent";
+
+    private final Path entryFile;
+
+    private PersistentModelCache(Path entryFile) {
+        this.entryFile = entryFile;
+    }
+
+    /**
+     * Creates the cache view for the specified request.
+     *
+     * @param request The model building request, must not be {@code null}.
+     * @return The cache view or {@code null} if the cache is disabled or the request is not built from a POM file.
+     */
+    static PersistentModelCache newInstance(ModelBuildingRequest request) {
+        String directory = getProperty(request, CACHE_DIRECTORY_PROPERTY);
+        File pomFile = request.getPomFile();
+        if (directory == null || directory.isEmpty() || pomFile == null || request.getRawModel() != null) {
+            return null;
+        }
+        if (!(request.getModelSource() instanceof FileModelSource)
+                || !pomFile.equals(((FileModelSource) request.getModelSource()).getFile())) {
+            return null;
+        }
+
+        File cacheDirectory = new File(directory);
+        String baseDirectory = getProperty(request, "maven.multiModuleProjectDirectory");
+        if (!cacheDirectory.isAbsolute() && baseDirectory != null) {
+            cacheDirectory = new File(baseDirectory, directory);
+        }
+
+        MessageDigest digest = newDigest();
+        update(digest, FORMAT);
+        update(digest, pomFile.getAbsolutePath());
+        update(
+                digest,
+                request.getValidationLevel() + ":" + request.isProcessPlugins() + ":" + request.isLocationTracking());
+        update(digest, String.valueOf(request.getActiveProfileIds()));
+        update(digest, String.valueOf(request.getInactiveProfileIds()));
+        for (Profile profile : request.getProfiles()) {
+            if (profile.getActivation() != null && profile.getActivation().getFile() != null) {
+                return null;
+            }
+        }
+        try {
+            digest.update(serialize(new ArrayList<>(request.getProfiles()), false));
+        } catch (IOException e) {
+            return null;
+        }
+        update(digest, request.getUserProperties(), false);
+        update(digest, request.getSystemProperties(), true);
+
+        return new PersistentModelCache(cacheDirectory.toPath().resolve(toHex(digest.digest()) + ".bin"));
+    }
+
+    /**
+     * Loads the phase-one result of this POM, provided none of its recorded inputs changed.
+     *
+     * @return A fresh copy of the cached result or {@code null} if there is no valid entry.
+     */
+    DefaultModelBuildingResult load() {
+        if (!Files.isRegularFile(entryFile)) {
+            return null;
+        }
+
+        Entry entry;
+        try (InputStream in = Files.newInputStream(entryFile);
+                ObjectInputStream ois = new ModelObjectInputStream(new GZIPInputStream(in))) {
+            entry = (Entry) ois.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            // unreadable or written by another version of the model classes
+            return null;
+        }
+
+        for (Input input : entry.inputs) {
+            if (!input.value.equals(input.current())) {
+                return null;
+            }
+        }
+
+        DefaultModelBuildingResult result = new DefaultModelBuildingResult();
+        result.setEffectiveModel(entry.effectiveModel);
+        result.setActiveExternalProfiles(entry.activeExternalProfiles);
+        for (String modelId : entry.modelIds) {
+            result.addModelId(modelId);
+            result.setRawModel(modelId, entry.rawModels.get(modelId));
+            result.setActivePomProfiles(modelId, entry.activePomProfiles.get(modelId));
+        }
+        for (CachedProblem problem : entry.problems) {
+            result.getProblems().add(problem.toModelProblem());
+        }
+        return result;
+    }
+
+    /**
+     * Stores the phase-one result of this POM. Results with errors and lineages whose inputs cannot be fingerprinted
+     * are skipped, write failures are ignored.
+     *
+     * @param result The phase-one result, must not be {@code null}.
+     * @param lineage The models of the parent chain starting with this POM, without the super POM.
+     */
+    void store(ModelBuildingResult result, List<ModelData> lineage) {
+        Entry entry = new Entry();
+
+        for (ModelProblem problem : result.getProblems()) {
+            if (problem.getSeverity() != ModelProblem.Severity.WARNING) {
+                return;
+            }
+            entry.problems.add(new CachedProblem(problem));
+        }
+
+        Collection<String> environment = new TreeSet<>();
+        for (int i = 0; i < lineage.size(); i++) {
+            ModelData data = lineage.get(i);
+            if (!(data.getSource() instanceof FileModelSource)) {
+                return;
+            }
+            File file = ((FileModelSource) data.getSource()).getFile();
+
+            byte[] content;
+            try {
+                content = Files.readAllBytes(file.toPath());
+            } catch (IOException e) {
+                return;
+            }
+            String text = new String(content, StandardCharsets.UTF_8);
+            if (text.contains("maven.build.timestamp")) {
+                return;
+            }
+            Matcher matcher = ENV_REFERENCE.matcher(text);
+            while (matcher.find()) {
+                environment.add(matcher.group(1));
+            }
+            entry.inputs.add(new Input(Input.FILE, file, null, hash(content)));
+
+            Model rawModel = data.getRawModel();
+            for (Profile profile : rawModel.getProfiles()) {
+                if (profile.getActivation() != null && profile.getActivation().getFile() != null) {
+                    return;
+                }
+            }
+
+            Parent parent = rawModel.getParent();
+            if (parent == null) {
+                continue;
+            }
+            String version = parent.getVersion();
+            if (version != null && (version.startsWith("[") || version.startsWith("("))) {
+                return;
+            }
+            String relativePath = parent.getRelativePath();
+            if (relativePath != null && !relativePath.isEmpty()) {
+                Input related = new Input(Input.RELATED, file, relativePath, null);
+                related.value = related.current();
+                entry.inputs.add(related);
+            }
+            // a snapshot parent from a repository may be updated without any local change
+            if (version != null && version.endsWith("SNAPSHOT") && i + 1 < lineage.size()) {
+                File parentFile = ((FileModelSource) lineage.get(i + 1).getSource()).getFile();
+                File relatedFile = Input.related(file, relativePath);
+                if (relatedFile == null || !relatedFile.equals(parentFile)) {
+                    return;
+                }
+            }
+        }
+
+        for (String variable : environment) {
+            Input input = new Input(Input.ENV, null, variable, null);
+            input.value = input.current();
+            entry.inputs.add(input);
+        }
+
+        entry.effectiveModel = result.getEffectiveModel();
+        entry.activeExternalProfiles = new ArrayList<>(result.getActiveExternalProfiles());
+        for (String modelId : result.getModelIds()) {
+            entry.modelIds.add(modelId);
+            entry.rawModels.put(modelId, result.getRawModel(modelId));
+            entry.activePomProfiles.put(modelId, new ArrayList<>(result.getActivePomProfiles(modelId)));
+        }
+
+        try {
+            byte[] bytes = serialize(entry, true);
+            Files.createDirectories(entryFile.getParent());
+            Path tmp = Files.createTempFile(
+                    entryFile.getParent(), entryFile.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tmp, bytes);
+                Files.move(tmp, entryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // the cache is an optimization only
+        }
+    }
+
+    private static String getProperty(ModelBuildingRequest request, String key) {
+        String value = null;
+        if (request.getUserProperties() != null) {
+            value = request.getUserProperties().getProperty(key);
+        }
+        if (value == null && request.getSystemProperties() != null) {
+            value = request.getSystemProperties().getProperty(key);
+        }
+        return value;
+    }
+
+    private static void update(MessageDigest digest, Properties properties, boolean system) {
+        if (properties == null) {
+            return;
+        }
+        for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+            // environment variables are recorded per entry, only those the POMs refer to
+            if (system && (key.startsWith("env.") || VOLATILE_PROPERTIES.contains(key))) {
+                continue;
+            }
+            update(digest, key + '=' + properties.getProperty(key));
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static byte[] serialize(Object object, boolean compress) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 * 1024);
+        OutputStream out = compress ? new GZIPOutputStream(buffer) : buffer;
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(object);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String hash(byte[] content) {
+        MessageDigest digest = newDigest();
+        return toHex(digest.digest(content));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder buffer = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            buffer.append(Character.forDigit((b >> 4) & 0x0F, 16)).append(Character.forDigit(b & 0x0F, 16));
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * A cached phase-one result along with the inputs it was built from.
+     */
+    private static final class Entry implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Input> inputs = new ArrayList<>();
+
+        private Model effectiveModel;
+
+        private final List<String> modelIds = new ArrayList<>();
+
+        private final Map<String, Model> rawModels = new LinkedHashMap<>();
+
+        private final Map<String, List<Profile>> activePomProfiles = new LinkedHashMap<>();
+
+        private List<Profile> activeExternalProfiles;
+
+        private final List<CachedProblem> problems = new ArrayList<>();
+    }
+
+    /**
+     * An input of a cached result: the content of a POM, the POM found at a parent's relative path or an environment
+     * variable.
+     */
+    private static final class Input implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        static final int FILE = 0;
+
+        static final int RELATED = 1;
+
+        static final int ENV = 2;
+
+        private final int kind;
+
+        private final File file;
+
+        private final String name;
+
+        private String value;
+
+        Input(int kind, File file, String name, String value) {
+            this.kind = kind;
+            this.file = file;
+            this.name = name;
+            this.value = value;
+        }
+
+        String current() {
+            switch (kind) {
+                case FILE:
+                    return fingerprint(file);
+                case RELATED:
+                    File relatedFile = related(file, name);
+                    return relatedFile != null ? relatedFile + "@" + fingerprint(relatedFile) : ABSENT;
+                default:
+                    String env = System.getenv(name);
+                    return env != null ? hash(env.getBytes(StandardCharsets.UTF_8)) : ABSENT;
+            }
+        }
+
+        /**
+         * Locates the POM at the relative path of a parent like {@link DefaultModelBuilder} does for local parents.
+         */
+        static File related(File pomFile, String relativePath) {
+            if (relativePath == null || relativePath.isEmpty()) {
+                return null;
+            }
+            ModelSource2 related = new FileModelSource(pomFile).getRelatedSource(relativePath);
+            return related instanceof FileModelSource ? ((FileModelSource) related).getFile() : null;
+        }
+
+        private static String fingerprint(File file) {
+            try {
+                return hash(Files.readAllBytes(file.toPath()));
+            } catch (IOException e) {
+                return ABSENT;
+            }
+        }
+    }
+
+    /**
+     * A warning reported while building a cached result, replayed on every hit.
+     */
+    private static final class CachedProblem implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String message;
+
+        private final ModelProblem.Severity severity;
+
+        private final ModelProblem.Version version;
+
+        private final String source;
+
+        private final int lineNumber;
+
+        private final int columnNumber;
+
+        private final String modelId;
+
+        CachedProblem(ModelProblem problem) {
+            message = problem.getMessage();
+            severity = problem.getSeverity();
+            version = problem.getVersion();
+            source = problem.getSource();
+            lineNumber = problem.getLineNumber();
+            columnNumber = problem.getColumnNumber();
+            modelId = problem.getModelId();
+        }
+
+        ModelProblem toModelProblem() {
+            return new DefaultModelProblem(message, severity, version, source, lineNumber, columnNumber, modelId, null);
+        }
+    }
+
+    /**
+     * Only resolves the classes an entry consists of, from the class loader of the model builder.
+     */
+    private static final class ModelObjectInputStream extends ObjectInputStream {
+
+        ModelObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            while (name.startsWith("[")) {
+                name = name.substring(1);
+            }
+            if (name.length() > 1 && name.startsWith("L")) {
+                name = name.substring(1, name.length() - 1);
+            }
+            if (name.length() > 1
+                    && !name.startsWith("java.")
+                    && !name.startsWith("org.apache.maven.model.")
+                    && !name.startsWith("org.codehaus.plexus.util.xml.")) {
+                throw new InvalidClassException(desc.getName(), "not part of a cached model");
+            }
+            try {
+                return Class.forName(desc.getName(), false, PersistentModelCache.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.model.building;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link PersistentModelCache}.
+ */
+public class PersistentModelCacheTest {
+
+    private static final String PARENT = "<project>\n"
+            + "  <modelVersion>4.0.0</modelVersion>\n"
+            + "  <groupId>test</groupId>\n"
+            + "  <artifactId>parent</artifactId>\n"
+            + "  <version>1</version>\n"
+            + "  <packaging>pom</packaging>\n"
+            + "  <properties>\n"
+            + "    <greeting>%s</greeting>\n"
+            + "  </properties>\n"
+            + "</project>\n";
+
+    private static final String CHILD = "<project>\n"
+            + "  <modelVersion>4.0.0</modelVersion>\n"
+            + "  <parent>\n"
+            + "    <groupId>test</groupId>\n"
+            + "    <artifactId>parent</artifactId>\n"
+            + "    <version>1</version>\n"
+            + "  </parent>\n"
+            + "  <artifactId>child</artifactId>\n"
+            + "  <name>${greeting} ${user.name}</name>\n"
+            + "</project>\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File parentPom;
+
+    private File childPom;
+
+    private File cacheDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        File basedir = temporaryFolder.newFolder("project");
+        parentPom = new File(basedir, "pom.xml");
+        childPom = new File(new File(basedir, "child"), "pom.xml");
+        cacheDirectory = new File(basedir, ".mvn/model-cache");
+        write(parentPom, String.format(PARENT, "hello"));
+        write(childPom, CHILD);
+    }
+
+    @Test
+    public void testDisabledWithoutCacheDirectory() {
+        DefaultModelBuildingRequest request = new DefaultModelBuildingRequest();
+        request.setPomFile(childPom);
+
+        assertNull(PersistentModelCache.newInstance(request));
+    }
+
+    @Test
+    public void testWarmBuildUsesCachedModel() throws Exception {
+        ModelBuildingResult cold = build(newRequest("duke"));
+        assertEquals("hello duke", cold.getEffectiveModel().getName());
+        assertTrue(cacheDirectory.list().length > 0);
+
+        DefaultModelBuildingResult cached =
+                PersistentModelCache.newInstance(newRequest("duke")).load();
+        assertNotNull(cached);
+        assertEquals("hello duke", cached.getEffectiveModel().getName());
+        assertEquals(cold.getModelIds(), cached.getModelIds());
+        assertEquals(parentPom, cached.getRawModel("test:parent:1").getPomFile());
+
+        ModelBuildingResult warm = build(newRequest("duke"));
+        assertEquals("hello duke", warm.getEffectiveModel().getName());
+        assertEquals("test", warm.getEffectiveModel().getGroupId());
+    }
+
+    @Test
+    public void testChangedParentInvalidatesEntry() throws Exception {
+        build(newRequest("duke"));
+
+        write(parentPom, String.format(PARENT, "bonjour"));
+
+        assertNull(PersistentModelCache.newInstance(newRequest("duke")).load());
+        assertEquals(
+                "bonjour duke", build(newRequest("duke")).getEffectiveModel().getName());
+    }
+
+    @Test
+    public void testPropertiesArePartOfTheKey() throws Exception {
+        build(newRequest("duke"));
+
+        assertNull(PersistentModelCache.newInstance(newRequest("tux")).load());
+        assertEquals("hello tux", build(newRequest("tux")).getEffectiveModel().getName());
+    }
+
+    private DefaultModelBuildingRequest newRequest(String userName) {
+        Properties userProperties = new Properties();
+        userProperties.setProperty(PersistentModelCache.CACHE_DIRECTORY_PROPERTY, cacheDirectory.getPath());
+        userProperties.setProperty("user.name", userName);
+
+        DefaultModelBuildingRequest request = new DefaultModelBuildingRequest();
+        request.setPomFile(childPom);
+        request.setUserProperties(userProperties);
+        request.setSystemProperties(new Properties());
+        request.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL);
+        return request;
+    }
+
+    private ModelBuildingResult build(ModelBuildingRequest request) throws ModelBuildingException {
+        return new DefaultModelBuilderFactory().newInstance().build(request);
+    }
+
+    private static void write(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,10 @@ package runner;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.DataProvider;
+import utilities.BaseTest;
+import utilities.ShardPlanner;
 
 @CucumberOptions(
         features="src/test/java/features/ATS",
@@ -10,11 +14,27 @@ import io.cucumber.testng.CucumberOptions;
             "pretty",
             "html:target/cucumber-reports/parallel-report.html",
             "json:target/cucumber-reports/parallel-report.json",
-            "junit:target/cucumber-reports/parallel-report.xml"
+            "junit:target/cucumber-reports/parallel-report.xml",
+            "utilities.TimingPlugin",
+            "utilities.ShardHistoryPlugin"
         },
         tags="@ATS",
         monochrome=true,
-        dryRun=true  // Devre dışı bırak
+        dryRun=false
 )
 public class ParallelTestRunner extends AbstractTestNGCucumberTests {
+
+    // Senaryoları paralel çalıştır - thread sayısı surefire'daki dataproviderthreadcount (parallel.threads)
+    // -Dshard.total verilirse sadece bu shard'a düşen senaryolar koşar
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return ShardPlanner.select(super.scenarios());
+    }
+
+    // Oluşturulan test verisini sil - shutdown hook'larından (driver havuzu, log flush) önce
+    @AfterSuite(alwaysRun = true)
+    public void cleanupTestData() {
+        BaseTest.cleanupTestData();
+    }
 }
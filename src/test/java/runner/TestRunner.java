@@ -2,14 +2,31 @@ package runner;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.DataProvider;
+import utilities.BaseTest;
+import utilities.ShardPlanner;
 
 @CucumberOptions(
         features="src/test/java/features/ATS",
         glue="stepDefinitions",
-        plugin={"pretty","html:target/cucumber-report.html"},
+        plugin={"pretty","html:target/cucumber-report.html","json:target/cucumber-reports/cucumber-report.json","utilities.TimingPlugin","utilities.ShardHistoryPlugin"},
         tags="@ATS",
         monochrome=true,
         dryRun=false
 )
 public class TestRunner extends AbstractTestNGCucumberTests {
+
+    // -Dshard.total verilirse sadece bu shard'a düşen senaryolar koşar
+    @Override
+    @DataProvider
+    public Object[][] scenarios() {
+        return ShardPlanner.select(super.scenarios());
+    }
+
+    // Oluşturulan test verisini sil - shutdown hook'larından (driver havuzu, log flush) önce
+    @AfterSuite(alwaysRun = true)
+    public void cleanupTestData() {
+        BaseTest.cleanupTestData();
+    }
 }
@@ -7,29 +7,39 @@ package stepDefinitions;
  */
 
 import io.cucumber.java.After;
+import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import io.cucumber.java.Status;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.And;
-import org.testng.asserts.SoftAssert;
+import utilities.ArtifactCapture;
+import utilities.AsyncLogger;
 import utilities.BaseTest;
 import utilities.TestUtils;
 import utilities.MyDriver;
+import utilities.Retry;
+import utilities.SoftAssertions;
 
 public class AuthenticationStepDefinitions extends BaseTest {
 
-    private SoftAssert softAssert = new SoftAssert();
+    // Senaryo ve thread'e bağlı, sonuçlar target/soft-assertions altına anında yazılır
+    private SoftAssertions softAssert;
 
     // ========== SETUP ==========
     
     @Before
-    public void setUp() {
+    public void setUp(Scenario scenario) {
+        // Bu senaryonun log'ları target/logs/<senaryo>_<satır>.log dosyasına da yazılır
+        AsyncLogger.startScenario(scenario.getName() + "_" + scenario.getLine());
+        ArtifactCapture.startScenario(scenario.getName() + "_" + scenario.getLine());
+        Retry.startScenario();
+        softAssert = SoftAssertions.start(scenario.getName() + "_" + scenario.getLine());
         try {
-            // Her test için yeni driver oluştur
-            if (driver != null) {
-                driver.quit();
-                driver = null;
-            }
+            // Thread'de kalmış driver varsa havuza geri ver, test temiz driver ile başlasın
+            MyDriver.closeDriver();
+            driver = null;
             TestUtils.logInfo("Driver reset for new test");
         } catch (Exception e) {
             TestUtils.logError("Failed to setup driver", e);
@@ -127,18 +137,30 @@ public class AuthenticationStepDefinitions extends BaseTest {
 
     // ========== TEARDOWN ==========
     
+    // Başarısız step'te (FAILED veya soft assert hatası) screenshot, DOM ve console log - yazım arka planda
+    @AfterStep
+    public void captureFailureArtifacts(Scenario scenario) {
+        try {
+            boolean stepFailed = scenario.getStatus() == Status.FAILED;
+            ArtifactCapture.afterStep(MyDriver.getCurrentDriver(), stepFailed, softAssert.getFailureCount());
+        } catch (Exception e) {
+            TestUtils.logWarning("Failure artifacts could not be captured: " + e.getMessage());
+        }
+    }
+
     @After
     public void tearDown() {
         try {
-            // BaseTest'teki driver'ı kullan, yenisini oluşturma
-            if (driver != null && isDriverActive()) {
-                driver.quit();
+            // Driver'ı quit etme, sıfırlayıp havuza geri ver
+            if (driver != null) {
+                MyDriver.closeDriver();
                 driver = null;
-                TestUtils.logSuccess("Driver closed and reference cleared");
+                TestUtils.logSuccess("Driver released to pool and reference cleared");
             }
         } catch (Exception e) {
             TestUtils.logError("Failed to close driver", e);
         } finally {
+            AsyncLogger.endScenario();
             softAssert.assertAll();
         }
     }
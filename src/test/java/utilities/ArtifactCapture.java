@@ -0,0 +1,226 @@
+package utilities;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+public class ArtifactCapture {
+
+    private static final Path ARTIFACT_DIR = Paths.get("target", "artifacts");
+
+    // Disk bütçesi - aşılınca en eski artifact'ler silinir
+    private static final long MAX_BYTES = Long.getLong("artifacts.max.mb", 200) * 1024 * 1024;
+
+    // Test thread'i sadece driver'dan ham veriyi alır, decode/gzip/yazma bu thread'de
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "artifact-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Sadece writer thread erişir - eskiden yeniye
+    private static final Deque<Path> WRITTEN = new ArrayDeque<>();
+    private static long totalBytes = -1;
+
+    // Önceki step sonundaki soft assert hata sayısı - step içinde artarsa step başarısız sayılır
+    private static final ThreadLocal<int[]> SOFT_FAILURES = ThreadLocal.withInitial(() -> new int[1]);
+    private static final ThreadLocal<String> SCENARIO = new ThreadLocal<>();
+    private static final ThreadLocal<int[]> STEP = ThreadLocal.withInitial(() -> new int[1]);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ArtifactCapture::flush, "artifact-writer-flush"));
+    }
+
+    private ArtifactCapture() {
+    }
+
+    // ========== SCENARIO API ==========
+
+    // Artifact'ler target/artifacts/<scenarioId>/ altına yazılır
+    public static void startScenario(String scenarioId) {
+        SCENARIO.set(scenarioId.replaceAll("[^\\w.-]+", "_"));
+        STEP.get()[0] = 0;
+        SOFT_FAILURES.get()[0] = 0;
+    }
+
+    // @AfterStep hook'u çağırır - step başarısızsa veya step hatayı yakalayıp soft assert'e yazdıysa
+    // screenshot, DOM ve console log alınır; yakalanıp devam edilen ara hatalar (retry, fallback) artifact üretmez
+    public static void afterStep(WebDriver driver, boolean stepFailed, int softFailureCount) {
+        int step = ++STEP.get()[0];
+        int[] softFailures = SOFT_FAILURES.get();
+        boolean failed = stepFailed || softFailureCount > softFailures[0];
+        softFailures[0] = softFailureCount;
+        if (!failed || driver == null) {
+            return;
+        }
+
+        String scenario = SCENARIO.get() != null ? SCENARIO.get() : "unknown";
+        String baseName = scenario + "/" + String.format("step-%02d", step);
+        captureFailure(driver, baseName);
+    }
+
+    // ========== CAPTURE ==========
+
+    // Elle alınan ekran görüntüsü - target/artifacts/screenshots/<fileName>.png
+    public static void screenshot(WebDriver driver, String fileName) {
+        String base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        String name = fileName.endsWith(".png") ? fileName : fileName + ".png";
+        WRITER.execute(() -> write(ARTIFACT_DIR.resolve("screenshots").resolve(name), Base64.getDecoder().decode(base64)));
+    }
+
+    private static void captureFailure(WebDriver driver, String baseName) {
+        // Driver çağrıları test thread'inde - her biri bağımsız, biri patlarsa diğerleri yine alınır
+        String screenshot = null;
+        String dom = null;
+        List<LogEntry> console = null;
+        try {
+            screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (Exception e) {
+            TestUtils.logWarning("Failure screenshot could not be taken: " + e.getMessage());
+        }
+        try {
+            dom = driver.getPageSource();
+        } catch (Exception e) {
+            TestUtils.logWarning("Failure DOM snapshot could not be taken: " + e.getMessage());
+        }
+        try {
+            console = driver.manage().logs().get(LogType.BROWSER).getAll();
+        } catch (Exception e) {
+            TestUtils.logWarning("Browser console log could not be read: " + e.getMessage());
+        }
+
+        String currentUrl = safeUrl(driver);
+        String finalScreenshot = screenshot;
+        String finalDom = dom;
+        List<LogEntry> finalConsole = console;
+        WRITER.execute(() -> {
+            if (finalScreenshot != null) {
+                write(ARTIFACT_DIR.resolve(baseName + ".png"), Base64.getDecoder().decode(finalScreenshot));
+            }
+            if (finalDom != null) {
+                try {
+                    write(ARTIFACT_DIR.resolve(baseName + ".html.gz"), gzip("<!-- " + currentUrl + " -->\n" + finalDom));
+                } catch (IOException e) {
+                    System.err.println("DOM snapshot could not be compressed: " + e.getMessage());
+                }
+            }
+            if (finalConsole != null) {
+                StringBuilder text = new StringBuilder();
+                for (LogEntry entry : finalConsole) {
+                    text.append(entry.getTimestamp()).append(' ').append(entry.getLevel()).append(' ')
+                            .append(entry.getMessage()).append('\n');
+                }
+                write(ARTIFACT_DIR.resolve(baseName + ".console.log"), text.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        TestUtils.logInfo("Failure artifacts queued: " + ARTIFACT_DIR.resolve(baseName) + ".*");
+    }
+
+    // Kuyruktaki yazımlar bitene kadar bekle (shutdown)
+    public static void flush() {
+        WRITER.shutdown();
+        try {
+            WRITER.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== WRITER THREAD ==========
+
+    private static void write(Path file, byte[] content) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, content);
+            enforceBudget(file, content.length);
+        } catch (IOException e) {
+            System.err.println("Artifact write failed for " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static void enforceBudget(Path file, long size) {
+        if (totalBytes < 0) {
+            scanExisting();
+        } else {
+            WRITTEN.addLast(file);
+            totalBytes += size;
+        }
+
+        // Son yazılan dosya her zaman kalır
+        while (totalBytes > MAX_BYTES && WRITTEN.size() > 1) {
+            Path oldest = WRITTEN.removeFirst();
+            try {
+                long oldestSize = Files.size(oldest);
+                Files.delete(oldest);
+                totalBytes -= oldestSize;
+            } catch (IOException e) {
+                // Elle silinmiş olabilir - sadece listeden çıkar
+            }
+        }
+    }
+
+    // İlk yazımda önceki koşumlardan kalan artifact'ler de bütçeye dahil edilir
+    private static void scanExisting() {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(ARTIFACT_DIR)) {
+            stream.filter(Files::isRegularFile).forEach(files::add);
+        } catch (IOException e) {
+            System.err.println("Artifact directory scan failed: " + e.getMessage());
+        }
+        files.sort(Comparator.comparingLong(ArtifactCapture::lastModified));
+
+        totalBytes = 0;
+        for (Path existing : files) {
+            try {
+                totalBytes += Files.size(existing);
+                WRITTEN.addLast(existing);
+            } catch (IOException e) {
+                // Atla
+            }
+        }
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return buffer.toByteArray();
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String safeUrl(WebDriver driver) {
+        try {
+            return driver.getCurrentUrl();
+        } catch (Exception e) {
+            return "unknown url";
+        }
+    }
+}
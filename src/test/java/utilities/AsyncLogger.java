@@ -0,0 +1,215 @@
+package utilities;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+public class AsyncLogger {
+
+    // 2'nin kuvveti olmalı (index = sequence & MASK)
+    private static final int CAPACITY = 8192;
+    private static final int MASK = CAPACITY - 1;
+
+    // Buffer dolu kaldığında üretici en fazla bu kadar bekler, sonra kayıt sadece konsola yazılır
+    private static final long MAX_BACKPRESSURE_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final Path LOG_DIR = Paths.get("target", "logs");
+
+    // Senaryo dışı kayıtlar (driver havuzu, rapor yazımı...)
+    private static final String HARNESS_LOG = "harness";
+
+    // Lock-free ring buffer: çok üretici (test thread'leri), tek tüketici (writer thread)
+    private static final AtomicReferenceArray<Record> RING = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong TAIL = new AtomicLong();
+    private static volatile long head;
+
+    // Dosyalara flush edilmiş son sequence
+    private static volatile long flushed;
+
+    // Buffer dolu kaldığı için dosyalara yazılamayan kayıtlar
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    private static final ThreadLocal<String> SCENARIO = new ThreadLocal<>();
+
+    // Sadece writer thread erişir
+    private static final Map<String, BufferedWriter> FILES = new HashMap<>();
+    private static boolean dirty;
+
+    static {
+        Thread writer = new Thread(AsyncLogger::drainLoop, "async-logger");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(AsyncLogger::flush, "async-logger-flush"));
+    }
+
+    private AsyncLogger() {
+    }
+
+    private static final class Record {
+        final LocalTime time = LocalTime.now();
+        final String thread = Thread.currentThread().getName();
+        final String scenario;
+        final String message;
+        final boolean error;
+        final boolean endOfScenario;
+
+        Record(String scenario, String message, boolean error, boolean endOfScenario) {
+            this.scenario = scenario;
+            this.message = message;
+            this.error = error;
+            this.endOfScenario = endOfScenario;
+        }
+    }
+
+    // ========== PRODUCER API ==========
+
+    // Mesajı kuyruğa at - I/O writer thread'de yapılır
+    public static void log(String message, boolean error) {
+        publish(new Record(SCENARIO.get(), message, error, false));
+    }
+
+    // Bu thread'in sonraki kayıtları target/logs/<scenarioId>.log dosyasına da yazılır
+    public static void startScenario(String scenarioId) {
+        SCENARIO.set(scenarioId.replaceAll("[^\\w.-]+", "_"));
+    }
+
+    // Senaryo dosyasını kapat
+    public static void endScenario() {
+        String scenario = SCENARIO.get();
+        if (scenario != null) {
+            publish(new Record(scenario, null, false, true));
+            SCENARIO.remove();
+        }
+    }
+
+    // Kuyruk boşalana kadar bekle (shutdown / teardown)
+    public static void flush() {
+        long target = TAIL.get();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flushed < target && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        long dropped = DROPPED.get();
+        if (dropped > 0) {
+            System.err.println(dropped + " log records were written to the console only (log buffer full)");
+        }
+    }
+
+    private static void publish(Record record) {
+        long deadline = System.nanoTime() + MAX_BACKPRESSURE_NANOS;
+        while (true) {
+            long sequence = TAIL.get();
+            if (sequence - head < CAPACITY) {
+                // Slot sadece yer varken alınır - writer hiçbir zaman boş kalan bir slotu beklemez
+                if (TAIL.compareAndSet(sequence, sequence + 1)) {
+                    RING.set((int) (sequence & MASK), record);
+                    return;
+                }
+                continue;
+            }
+            // Buffer dolu - writer yer açana kadar sınırlı süre bekle, test thread'leri asılı kalmasın
+            if (System.nanoTime() - deadline >= 0) {
+                DROPPED.incrementAndGet();
+                if (!record.endOfScenario) {
+                    (record.error ? System.err : System.out).println(format(record));
+                }
+                return;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    // ========== WRITER THREAD ==========
+
+    private static void drainLoop() {
+        while (true) {
+            int index = (int) (head & MASK);
+            Record record = RING.get(index);
+            if (record == null) {
+                if (dirty) {
+                    dirty = false;
+                    try {
+                        flushFiles();
+                    } catch (Throwable t) {
+                        System.err.println("Log files could not be flushed: " + t);
+                    }
+                }
+                flushed = head;
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                continue;
+            }
+            RING.set(index, null);
+            head = head + 1;
+            // Tek bir kaydın hatası writer thread'i bitirmesin - yoksa buffer dolunca üreticiler bekler
+            try {
+                write(record);
+            } catch (Throwable t) {
+                System.err.println("Log record could not be written: " + t);
+            }
+        }
+    }
+
+    private static void write(Record record) {
+        String file = record.scenario != null ? record.scenario : HARNESS_LOG;
+        if (record.endOfScenario) {
+            close(file);
+            return;
+        }
+
+        String line = format(record);
+        PrintStream console = record.error ? System.err : System.out;
+        console.println(line);
+
+        try {
+            BufferedWriter writer = FILES.get(file);
+            if (writer == null) {
+                Files.createDirectories(LOG_DIR);
+                writer = Files.newBufferedWriter(LOG_DIR.resolve(file + ".log"), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                FILES.put(file, writer);
+            }
+            writer.write(line);
+            writer.newLine();
+            dirty = true;
+        } catch (IOException e) {
+            System.err.println("Log file write failed for " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static String format(Record record) {
+        return record.time + " [" + record.thread + "] " + record.message;
+    }
+
+    private static void flushFiles() {
+        for (BufferedWriter writer : FILES.values()) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                // Sonraki flush'ta tekrar denenir
+            }
+        }
+    }
+
+    private static void close(String file) {
+        BufferedWriter writer = FILES.remove(file);
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Log file close failed for " + file + ": " + e.getMessage());
+            }
+        }
+    }
+}
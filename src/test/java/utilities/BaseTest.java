@@ -5,7 +5,8 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.TimeoutException;
+import java.net.URI;
 import java.time.Duration;
 import java.util.List;
 
@@ -52,8 +53,7 @@ public abstract class BaseTest {
     // Akıllı element bekleme - element görünür olana kadar bekle
     protected void waitForElementToBeVisible(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WaitEngine.until(driver, ExpectedConditions.visibilityOfElementLocated(locator), timeoutSeconds);
             TestUtils.logInfo("Element became visible: " + locator);
         } catch (Exception e) {
             TestUtils.logError("Element did not become visible within " + timeoutSeconds + " seconds: " + locator, e);
@@ -64,8 +64,7 @@ public abstract class BaseTest {
     // Akıllı element bekleme - element tıklanabilir olana kadar bekle
     protected void waitForElementToBeClickable(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            wait.until(ExpectedConditions.elementToBeClickable(locator));
+            WaitEngine.until(driver, ExpectedConditions.elementToBeClickable(locator), timeoutSeconds);
             TestUtils.logInfo("Element became clickable: " + locator);
         } catch (Exception e) {
             TestUtils.logError("Element did not become clickable within " + timeoutSeconds + " seconds: " + locator, e);
@@ -76,8 +75,7 @@ public abstract class BaseTest {
     // Akıllı element bekleme - element tıklanabilir olana kadar bekle (WebElement)
     protected void waitForElementToBeClickable(WebElement element, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            wait.until(ExpectedConditions.elementToBeClickable(element));
+            WaitEngine.until(driver, ExpectedConditions.elementToBeClickable(element), timeoutSeconds);
             TestUtils.logInfo("Element became clickable: " + element.getTagName());
         } catch (Exception e) {
             TestUtils.logError("Element did not become clickable within " + timeoutSeconds + " seconds", e);
@@ -88,8 +86,7 @@ public abstract class BaseTest {
     // Akıllı sayfa yükleme bekleme - URL değişene kadar bekle
     protected void waitForUrlToChange(String currentUrl, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            wait.until(ExpectedConditions.not(ExpectedConditions.urlToBe(currentUrl)));
+            WaitEngine.until(driver, ExpectedConditions.not(ExpectedConditions.urlToBe(currentUrl)), timeoutSeconds);
             TestUtils.logInfo("URL changed from: " + currentUrl + " to: " + driver.getCurrentUrl());
         } catch (Exception e) {
             TestUtils.logInfo("URL did not change within " + timeoutSeconds + " seconds, continuing...");
@@ -99,8 +96,7 @@ public abstract class BaseTest {
     // Akıllı element listesi bekleme - belirli sayıda element bulunana kadar bekle
     protected List<WebElement> waitForElementsToBePresent(By locator, int expectedCount, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            wait.until(driver -> driver.findElements(locator).size() >= expectedCount);
+            WaitEngine.until(driver, d -> d.findElements(locator).size() >= expectedCount, timeoutSeconds);
             List<WebElement> elements = driver.findElements(locator);
             TestUtils.logInfo("Found " + elements.size() + " elements: " + locator);
             return elements;
@@ -113,9 +109,7 @@ public abstract class BaseTest {
     // Akıllı menü genişleme bekleme - sub-menu elementleri görünene kadar bekle
     protected void waitForSubMenuToExpand(int timeoutSeconds) {
         try {
-            By subMenuLocator = By.cssSelector(".sub-menu.mm-collapse.mm-show");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            wait.until(ExpectedConditions.presenceOfElementLocated(subMenuLocator));
+            WaitEngine.until(driver, ExpectedConditions.presenceOfElementLocated(Locators.Sidebar.EXPANDED_SUB_MENU.primary()), timeoutSeconds);
             TestUtils.logInfo("Sub-menu expanded successfully");
         } catch (Exception e) {
             TestUtils.logInfo("Sub-menu expansion timeout, continuing...");
@@ -131,11 +125,16 @@ public abstract class BaseTest {
 
     // ========== ELEMENT FINDER HELPERS ==========
     
+    // Registry locator'ını çöz - en son eşleşen strateji önce denenir
+    protected By locate(Locator locator, int timeoutSeconds) {
+        return locator.resolve(driver, timeoutSeconds);
+    }
+    
     // Element bul (tek element) - Normal timeout ile
     protected WebElement findElement(By locator, int timeoutSeconds) {
-        try {
-        TestUtils.waitForElementVisible(driver, locator, timeoutSeconds);
-        WebElement element = driver.findElement(locator);
+        try (Timings.Timer timer = Timings.startHelper("findElement")) {
+            TestUtils.waitForElementVisible(driver, locator, timeoutSeconds);
+            WebElement element = driver.findElement(locator);
             TestUtils.logSuccess("Element found: " + locator);
             return element;
         } catch (Exception e) {
@@ -144,10 +143,14 @@ public abstract class BaseTest {
         }
     }
     
-    // HIZLI Element bul (timeout olmadan) - Performans için
+    // HIZLI Element bul (timeout olmadan) - Performans için (implicit wait ProbeMode ile sıfır)
     protected WebElement findElementFast(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = ProbeMode.findFirst(driver, locator);
+            if (element == null) {
+                TestUtils.logInfo("Element not found fast: " + locator);
+                return null;
+            }
             TestUtils.logSuccess("Element found fast: " + locator);
             return element;
         } catch (Exception e) {
@@ -159,7 +162,8 @@ public abstract class BaseTest {
     // HIZLI Element var mı kontrol et (timeout olmadan)
     protected boolean isElementPresentFast(By locator) {
         try {
-            return driver.findElement(locator).isDisplayed();
+            WebElement element = ProbeMode.findFirst(driver, locator);
+            return element != null && element.isDisplayed();
         } catch (Exception e) {
             return false;
         }
@@ -168,8 +172,8 @@ public abstract class BaseTest {
     // HIZLI Element tıklanabilir mi kontrol et (timeout olmadan)
     protected boolean isElementClickableFast(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
-            return element.isDisplayed() && element.isEnabled();
+            WebElement element = ProbeMode.findFirst(driver, locator);
+            return element != null && element.isDisplayed() && element.isEnabled();
         } catch (Exception e) {
             return false;
         }
@@ -177,7 +181,7 @@ public abstract class BaseTest {
     
     // Element bul (çoklu element)
     protected List<WebElement> findElements(By locator, int timeoutSeconds) {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("findElements")) {
             TestUtils.waitForElementVisible(driver, locator, timeoutSeconds);
             List<WebElement> elements = driver.findElements(locator);
             TestUtils.logSuccess("Found " + elements.size() + " elements: " + locator);
@@ -188,6 +192,19 @@ public abstract class BaseTest {
         }
     }
     
+    // Element durumlarını toplu al - görünür olmasını bekle, sonra tek script ile text/durum/konum
+    protected List<ElementQuery.ElementInfo> queryElements(By locator, int timeoutSeconds) {
+        try (Timings.Timer timer = Timings.startHelper("queryElements")) {
+            TestUtils.waitForElementVisible(driver, locator, timeoutSeconds);
+            List<ElementQuery.ElementInfo> infos = ElementQuery.query(driver, locator);
+            TestUtils.logSuccess("Queried " + infos.size() + " elements: " + locator);
+            return infos;
+        } catch (Exception e) {
+            TestUtils.logError("Elements not found: " + locator, e);
+            throw new RuntimeException("Elements not found: " + locator, e);
+        }
+    }
+    
     // Element var mı kontrol et
     protected boolean isElementPresent(By locator, int timeoutSeconds) {
         try {
@@ -238,10 +255,13 @@ public abstract class BaseTest {
 
     // Element'e text yaz
     protected void setElementText(By locator, String text, int timeoutSeconds) {
-        try {
-            WebElement element = findElement(locator, timeoutSeconds);
-            element.clear();
-            element.sendKeys(text);
+        try (Timings.Timer timer = Timings.startHelper("setElementText")) {
+            // Stale / intercepted durumunda element yeniden bulunup tekrar yazılır
+            Retry.run("setElementText", () -> {
+                WebElement element = findElement(locator, timeoutSeconds);
+                element.clear();
+                element.sendKeys(text);
+            });
             TestUtils.logSuccess("Text entered: " + text);
         } catch (Exception e) {
             TestUtils.logError("Failed to set element text", e);
@@ -251,9 +271,8 @@ public abstract class BaseTest {
     
     // Element'e tıkla
     protected void clickElement(By locator, int timeoutSeconds) {
-        try {
-            WebElement element = findElement(locator, timeoutSeconds);
-            element.click();
+        try (Timings.Timer timer = Timings.startHelper("clickElement")) {
+            Retry.run("clickElement", () -> findElement(locator, timeoutSeconds).click());
             TestUtils.logSuccess("Element clicked: " + locator);
             } catch (Exception e) {
             TestUtils.logError("Failed to click element", e);
@@ -263,9 +282,9 @@ public abstract class BaseTest {
     
     // JavaScript ile element'e tıkla
     protected void clickElementWithJS(By locator, int timeoutSeconds) {
-        try {
-            WebElement element = findElement(locator, timeoutSeconds);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        try (Timings.Timer timer = Timings.startHelper("clickElementWithJS")) {
+            Retry.run("clickElementWithJS", () ->
+                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", findElement(locator, timeoutSeconds)));
             TestUtils.logSuccess("Element clicked with JS: " + locator);
         } catch (Exception e) {
             TestUtils.logError("Failed to click element with JS", e);
@@ -307,12 +326,12 @@ public abstract class BaseTest {
     // Birden fazla element'in text'ini al
     protected List<String> getTextFromMultipleElements(By locator, int timeoutSeconds) {
         try {
-            List<WebElement> elements = findElements(locator, timeoutSeconds);
+            List<ElementQuery.ElementInfo> infos = queryElements(locator, timeoutSeconds);
             List<String> texts = new java.util.ArrayList<>();
-            for (WebElement element : elements) {
-                texts.add(element.getText());
+            for (ElementQuery.ElementInfo info : infos) {
+                texts.add(info.getText());
             }
-            TestUtils.logSuccess("Retrieved text from " + elements.size() + " elements");
+            TestUtils.logSuccess("Retrieved text from " + infos.size() + " elements");
             return texts;
         } catch (Exception e) {
             TestUtils.logError("Failed to get text from multiple elements", e);
@@ -323,13 +342,13 @@ public abstract class BaseTest {
     // Birden fazla element'in görünürlüğünü kontrol et
     protected boolean areAllElementsVisible(By locator, int timeoutSeconds) {
         try {
-            List<WebElement> elements = findElements(locator, timeoutSeconds);
-            for (WebElement element : elements) {
-                if (!element.isDisplayed()) {
+            List<ElementQuery.ElementInfo> infos = queryElements(locator, timeoutSeconds);
+            for (ElementQuery.ElementInfo info : infos) {
+                if (!info.isDisplayed()) {
                     return false;
                 }
             }
-            TestUtils.logSuccess("All " + elements.size() + " elements are visible");
+            TestUtils.logSuccess("All " + infos.size() + " elements are visible");
             return true;
             } catch (Exception e) {
             TestUtils.logError("Failed to check visibility of multiple elements", e);
@@ -343,11 +362,11 @@ public abstract class BaseTest {
     protected java.util.Map<String, Boolean> getElementState(By locator, int timeoutSeconds) {
         java.util.Map<String, Boolean> state = new java.util.HashMap<>();
         try {
-            WebElement element = findElement(locator, timeoutSeconds);
-            state.put("displayed", element.isDisplayed());
-            state.put("enabled", element.isEnabled());
-            state.put("selected", element.isSelected());
-            state.put("clickable", isElementClickableFast(locator));
+            ElementQuery.ElementInfo info = queryElements(locator, timeoutSeconds).get(0);
+            state.put("displayed", info.isDisplayed());
+            state.put("enabled", info.isEnabled());
+            state.put("selected", info.isSelected());
+            state.put("clickable", info.isClickable());
             TestUtils.logSuccess("Element state retrieved: " + state);
         } catch (Exception e) {
             state.put("displayed", false);
@@ -471,27 +490,38 @@ public abstract class BaseTest {
     
     // Element görünene kadar akıllı bekle (custom timeout)
     protected WebElement waitForElementSmart(By locator, int maxWaitSeconds) {
-        for (int i = 0; i < maxWaitSeconds; i++) {
-            WebElement element = findElementFast(locator);
-            if (element != null && element.isDisplayed()) {
-                TestUtils.logSuccess("Element found smartly after " + i + " seconds: " + locator);
-                return element;
-            }
-            TestUtils.waitForSeconds(1);
+        long start = System.currentTimeMillis();
+        try {
+            WebElement element = WaitEngine.until(driver, ExpectedConditions.visibilityOfElementLocated(locator), maxWaitSeconds);
+            TestUtils.logSuccess("Element found smartly after " + (System.currentTimeMillis() - start) + " ms: " + locator);
+            return element;
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Element not found after smart wait: " + locator, e);
         }
-        throw new RuntimeException("Element not found after smart wait: " + locator);
     }
     
     // Element kaybolana kadar akıllı bekle
     protected void waitForElementToDisappearSmart(By locator, int maxWaitSeconds) {
-        for (int i = 0; i < maxWaitSeconds; i++) {
-            if (!isElementPresentFast(locator)) {
-                TestUtils.logSuccess("Element disappeared smartly after " + i + " seconds: " + locator);
-                return;
-            }
-            TestUtils.waitForSeconds(1);
+        long start = System.currentTimeMillis();
+        try {
+            WaitEngine.until(driver, d -> !isElementPresentFast(locator), maxWaitSeconds);
+            TestUtils.logSuccess("Element disappeared smartly after " + (System.currentTimeMillis() - start) + " ms: " + locator);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Element still present after smart wait: " + locator, e);
+        }
+    }
+    
+    // Element viewport içine girene kadar bekle (smooth scroll bitince hemen döner)
+    protected void waitForElementInViewport(WebElement element, int timeoutSeconds) {
+        try {
+            WaitEngine.until(driver, d -> (Boolean) ((JavascriptExecutor) d).executeScript(
+                    "var r = arguments[0].getBoundingClientRect();" +
+                    "return r.top >= 0 && r.left >= 0" +
+                    " && r.bottom <= (window.innerHeight || document.documentElement.clientHeight)" +
+                    " && r.right <= (window.innerWidth || document.documentElement.clientWidth);", element), timeoutSeconds);
+        } catch (TimeoutException e) {
+            TestUtils.logInfo("Element did not settle in viewport within " + timeoutSeconds + " seconds, continuing...");
         }
-        throw new RuntimeException("Element still present after smart wait: " + locator);
     }
 
     // URL değişene kadar bekle
@@ -501,26 +531,13 @@ public abstract class BaseTest {
     
     // Hızlı form doldurma - Map ile
     protected void fillFormFast(java.util.Map<String, String> formData, int timeoutSeconds) {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("fillFormFast")) {
+            // Key: id:/name:/css: seçici (varsayılan name), "keys:" önekli alanlara gerçek tuş vuruşu
+            List<FormFiller.Field> fields = new java.util.ArrayList<>();
             for (java.util.Map.Entry<String, String> entry : formData.entrySet()) {
-                String fieldName = entry.getKey();
-                String fieldValue = entry.getValue();
-                
-                // Farklı selector türlerini dene
-                By locator = null;
-                if (fieldName.startsWith("id:")) {
-                    locator = By.id(fieldName.substring(3));
-                } else if (fieldName.startsWith("name:")) {
-                    locator = By.name(fieldName.substring(5));
-                } else if (fieldName.startsWith("css:")) {
-                    locator = By.cssSelector(fieldName.substring(4));
-                } else {
-                    // Default olarak name attribute kullan
-                    locator = By.name(fieldName);
-                }
-                
-                setElementText(locator, fieldValue, timeoutSeconds);
+                fields.add(FormFiller.field(entry.getKey(), entry.getValue()));
             }
+            fillFields(fields, timeoutSeconds);
             TestUtils.logSuccess("Form filled fast with " + formData.size() + " fields");
         } catch (Exception e) {
             TestUtils.logError("Failed to fill form fast", e);
@@ -530,14 +547,14 @@ public abstract class BaseTest {
     
     // Hızlı form doldurma - Array ile
     protected void fillFormFast(String[][] formData, int timeoutSeconds) {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("fillFormFast")) {
+            List<FormFiller.Field> fields = new java.util.ArrayList<>();
             for (String[] field : formData) {
                 if (field.length >= 2) {
-                    String fieldName = field[0];
-                    String fieldValue = field[1];
-                    setElementText(By.name(fieldName), fieldValue, timeoutSeconds);
+                    fields.add(FormFiller.field(field[0], field[1]));
                 }
             }
+            fillFields(fields, timeoutSeconds);
             TestUtils.logSuccess("Form filled fast with " + formData.length + " fields");
         } catch (Exception e) {
             TestUtils.logError("Failed to fill form fast", e);
@@ -545,6 +562,16 @@ public abstract class BaseTest {
         }
     }
     
+    // Script ile doldurulabilen alanlar tek çağrıda, "keys:" alanları setElementText ile
+    private void fillFields(List<FormFiller.Field> fields, int timeoutSeconds) {
+        List<FormFiller.Field> keystrokeFields = FormFiller.fill(driver, fields, timeoutSeconds);
+        for (FormFiller.Field field : keystrokeFields) {
+            setElementText(field.getLocator(), field.getValue(), timeoutSeconds);
+        }
+        TestUtils.logInfo((fields.size() - keystrokeFields.size()) + " fields set in one script call, "
+                + keystrokeFields.size() + " typed with keystrokes");
+    }
+    
     // Hızlı dropdown seçimi
     protected void selectDropdownOptionFast(By dropdownLocator, String optionText, int timeoutSeconds) {
         try {
@@ -552,8 +579,7 @@ public abstract class BaseTest {
             dropdown.click();
             
             // Option'ı bul ve seç
-            By optionLocator = By.xpath("//option[contains(text(),'" + optionText + "')]");
-            WebElement option = waitForElementSmart(optionLocator, 3);
+            WebElement option = waitForElementSmart(Locators.Form.option(optionText), 3);
             option.click();
             
             TestUtils.logSuccess("Dropdown option selected fast: " + optionText);
@@ -614,6 +640,33 @@ public abstract class BaseTest {
         return testData;
     }
     
+    // Entity'leri UI yerine API ile oluştur (login olmuş session cookie'leri ile)
+    protected TestDataFactory testData() {
+        if (loginAccount == null) {
+            throw new IllegalStateException("testData() requires a login first (performLogin)");
+        }
+        return TestDataFactory.forDriver(getActiveDriver(), loginAccount);
+    }
+    
+    // Suite sonunda (runner @AfterSuite) - her hesap için yeni login ile oluşturulan test verisini sil
+    // Senaryo oturumları logout ile kapanmış olabilir, driver havuzu henüz kapanmamış olmalı
+    public static void cleanupTestData() {
+        TestDataFactory.cleanup(account -> {
+            String[] login = LOGINS.get(account);
+            if (login == null) {
+                return null;
+            }
+            BaseTest session = new BaseTest() {
+            };
+            try {
+                session.performLogin(login[0], login[1], login[2], login[3], login[4]);
+                return TestDataFactory.authHeaders(session.driver);
+            } finally {
+                MyDriver.closeDriver();
+            }
+        });
+    }
+    
     // Test verisi Array'i oluştur
     protected String[][] createTestDataArray(String... dataPairs) {
         String[][] testData = new String[dataPairs.length / 2][2];
@@ -672,7 +725,7 @@ public abstract class BaseTest {
         try {
             WebElement element = findElement(locator, timeoutSeconds);
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
-            TestUtils.waitForSeconds(1); // Smooth scroll için bekle
+            waitForElementInViewport(element, 2); // Smooth scroll bitene kadar bekle
             element.click();
             TestUtils.logSuccess("Element scrolled to and clicked: " + locator);
         } catch (Exception e) {
@@ -686,7 +739,7 @@ public abstract class BaseTest {
         try {
             WebElement element = findElement(locator, timeoutSeconds);
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
-            TestUtils.waitForSeconds(1); // Smooth scroll için bekle
+            waitForElementInViewport(element, 2); // Smooth scroll bitene kadar bekle
             element.clear();
             element.sendKeys(text);
             TestUtils.logSuccess("Element scrolled to and text entered: " + locator);
@@ -706,7 +759,7 @@ public abstract class BaseTest {
             
             // Element görünür değilse scroll yap
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
-            TestUtils.waitForSeconds(1);
+            waitForElementInViewport(element, 2);
             
             return element.isDisplayed();
         } catch (Exception e) {
@@ -723,7 +776,7 @@ public abstract class BaseTest {
                 "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center', inline: 'center'});", 
                 element
             );
-            TestUtils.waitForSeconds(1);
+            waitForElementInViewport(element, 2);
             TestUtils.logSuccess("Element centered in viewport: " + locator);
         } catch (Exception e) {
             TestUtils.logError("Failed to center element in viewport", e);
@@ -748,15 +801,37 @@ public abstract class BaseTest {
     }
 
     // ========== TAMAMEN DİNAMİK LOGIN METODU ==========
+    
+    // Son login'in SessionCache anahtarı (logout'ta geçersiz kılınır)
+    private String loginSessionKey;
+    
+    // Son login'in hesabı (origin|email|hesap) - test verisi havuzu ve cleanup login'i için
+    private String loginAccount;
+    
+    // Hesap -> login parametreleri, suite sonu cleanup'ı aynı hesapla yeniden login olur
+    private static final java.util.Map<String, String[]> LOGINS = new java.util.concurrent.ConcurrentHashMap<>();
+    
     public void performLogin(String pageUrl, String email, String searchText, String accountIndex, String password) {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("performLogin")) {
+            // -Dstandin=true ise canlı site yerine lokal stand-in uygulamaya git
+            pageUrl = StandInServer.rewrite(pageUrl);
+            
             // 1. Driver setup - Her test için yeni driver oluştur
             if (driver == null || !isDriverActive()) {
                 driver = MyDriver.createNewDriver();
                 TestUtils.logInfo("New driver created for login");
             }
             
-            // 2. DİNAMİK sayfa URL'ine git
+            // 2. Daha önce bu kullanıcı/hesap ile login olunduysa kayıtlı oturumu yükle
+            loginAccount = pageUrl + "|" + email + "|" + accountIndex;
+            LOGINS.put(loginAccount, new String[] {pageUrl, email, searchText, accountIndex, password});
+            loginSessionKey = SessionCache.key(pageUrl, email, accountIndex);
+            if (SessionCache.restore(driver, loginSessionKey)) {
+                TestUtils.logSuccess("Login skipped - session restored for: " + email);
+                return;
+            }
+            
+            // DİNAMİK sayfa URL'ine git
             driver.get(pageUrl);
             TestUtils.logSuccess("Successfully navigated to: " + pageUrl);
             
@@ -765,20 +840,20 @@ public abstract class BaseTest {
             TestUtils.logInfo("Page load check completed");
             
                                     // 4. DİNAMİK email gir
-                        setElementText(By.id("emailInputOnLoginPage"), email, 15);
+                        setElementText(locate(Locators.Login.EMAIL_INPUT, 15), email, 15);
             
             // 5. Login butonuna bas
-            clickElement(By.id("login-button"), 15);
+            clickElement(locate(Locators.Login.CONTINUE_BUTTON, 15), 15);
             
             // 6. SAYFA TAM YÜKLENENE KADAR BEKLE (Login sonrası - KONTROL İLE)
             TestUtils.waitForPageToLoad(driver, 20);
             TestUtils.logInfo("Page load check after login completed");
             
                                     // 7. DİNAMİK account search
-                        setElementText(By.cssSelector("input[placeholder='Hesap ara...']"), searchText, 15);
+                        setElementText(locate(Locators.Login.ACCOUNT_SEARCH_INPUT, 15), searchText, 15);
             
                                     // 8. DİNAMİK account index seç
-                        List<WebElement> accountButtons = findElements(By.cssSelector("button[id='accountSelectButtonOnLoginPage']"), 15);
+                        List<WebElement> accountButtons = findElements(locate(Locators.Login.ACCOUNT_SELECT_BUTTONS, 15), 15);
                         int index = Integer.parseInt(accountIndex);
                         if (index < accountButtons.size()) {
                             accountButtons.get(index).click();
@@ -792,22 +867,31 @@ public abstract class BaseTest {
             TestUtils.logInfo("Page load check after account selection completed");
             
                                     // 10. DİNAMİK password gir
-                        setElementText(By.id("passwordInputOnLoginPage"), password, 15);
+                        setElementText(locate(Locators.Login.PASSWORD_INPUT, 15), password, 15);
             
             // 11. Final login
-            clickElement(By.id("loginButtonInPasswordCheckInLoginPage"), 15);
+            clickElement(locate(Locators.Login.LOGIN_BUTTON, 15), 15);
             
             // 12. SAYFA TAM YÜKLENENE KADAR BEKLE (Final login sonrası - KONTROL İLE)
             TestUtils.waitForPageToLoad(driver, 20);
             TestUtils.logInfo("Page load check after final login completed");
             
-                                    // 13. Wait
-                        TestUtils.waitForSeconds(5);
+                                    // 13. Login sayfasından çıkılıp dashboard sidebar'ı gelene kadar bekle (sabit 5 sn yerine)
+                        // Login URL'leri de "dashboard" içerdiği için sadece URL kontrolü hemen sağlanır
+                        boolean loggedIn;
+                        try {
+                            loggedIn = WaitEngine.until(driver, BaseTest::isPastLogin, 15);
+                        } catch (TimeoutException e) {
+                            TestUtils.logWarning("Dashboard not reached within 15 seconds");
+                            loggedIn = false;
+                        }
                         TestUtils.logSuccess("Login process completed successfully");
 
                         // 14. VERIFY LOGIN SUCCESSFUL
-                        if (driver.getCurrentUrl().contains("dashboard")) {
+                        if (loggedIn) {
                             TestUtils.logSuccess("Login verification successful - Redirected to dashboard");
+                            // Sonraki senaryolar login akışını atlayabilsin
+                            SessionCache.capture(driver, loginSessionKey);
                         } else {
                             throw new RuntimeException("Login failed - Not redirected to dashboard. Current URL: " + driver.getCurrentUrl());
                         }
@@ -820,22 +904,23 @@ public abstract class BaseTest {
     
         // REUSABLE LOGOUT METODU
     public void performLogout() {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("performLogout")) {
             TestUtils.logInfo("Starting logout process...");
 
             // Driver'ı aktif hale getir
             driver = getActiveDriver();
 
             // 1. Dropdown toggle butonunu bul ve tıkla
-            clickElement(By.id("__BVID__31__BV_toggle_"), 15);
+            clickElement(locate(Locators.Dashboard.USER_DROPDOWN_TOGGLE, 15), 15);
             
             // 2. Dropdown menüden logout linkini bul ve tıkla (index 3)
-            List<WebElement> dropdownItems = findElements(By.cssSelector("a.dropdown-item"), 15);
+            List<WebElement> dropdownItems = findElements(Locators.Dashboard.USER_DROPDOWN_ITEMS.primary(), 15);
             dropdownItems.get(3).click();
             TestUtils.logSuccess("Logout link clicked successfully at index 3");
             
             // 3. "Hoş Geldin" yazısının görünür olduğunu kontrol et (aynı locator)
-            findElement(By.xpath("//h1[contains(text(),'Hoş Geldin')]"), 15);
+            findElement(Locators.Login.WELCOME_HEADING.primary(), 15);
+            SessionCache.invalidate(loginSessionKey);
             TestUtils.logSuccess("Logout process completed successfully");
             
         } catch (Exception e) {
@@ -857,96 +942,58 @@ public abstract class BaseTest {
     // ========== MENU SELECTION HELPERS ==========
     
     // Parametrik menü seçimi - sadece modül ismine bakarak
-    // Parametrik menü seçimi (id=sidebar-menu div'ine bağlı listelerden)
+    // Parametrik menü seçimi (id=sidebar-menu div'ine bağlı listelerden) - MenuIndex üzerinden direkt lookup
     protected void selectMenu(String menuName, int timeoutSeconds) {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("selectMenu")) {
             TestUtils.logInfo("Selecting menu: " + menuName);
             driver = getActiveDriver();
             
-            // sidebar-menu div'ini bul
-            WebElement sideMenu = driver.findElement(By.id("sidebar-menu"));
+            // sidebar-menu yüklenene kadar bekle
+            TestUtils.waitForElement(driver, Locators.Sidebar.MENU.primary(), timeoutSeconds);
             
-            // Menüyü bulmak için akıllı scroll yap
-            int maxAttempts = 10;
-            int attempt = 0;
-            WebElement targetMenu = null;
+            // Menü index'inden locator al (gizli / scroll dışındaki menüler dahil)
+            MenuIndex menuIndex = MenuIndex.forDriver(driver);
+            By menuLocator = menuIndex.menu(menuName);
             
-            while (attempt < maxAttempts && targetMenu == null) {
-                try {
-                    // sidebar-menu div'i içindeki tüm li elementlerini bul
-                    List<WebElement> allMenus = sideMenu.findElements(By.xpath(".//ul//li"));
-                    TestUtils.logInfo("Found " + allMenus.size() + " menu items in sidebar");
-                    
-                    // Menüyü ara
-                    for (WebElement menuElement : allMenus) {
-                        String menuText = menuElement.getText().trim();
-                        if (menuText.contains(menuName)) {
-                            targetMenu = menuElement;
-                            TestUtils.logInfo("Found menu with contains match: " + menuName + " in text: '" + menuText + "'");
-                            break;
-                        }
-                    }
-                    
-                    if (targetMenu == null) {
-                        TestUtils.logInfo("Menu not found, checking if element is visible... (attempt " + (attempt + 1) + ")");
-                        
-                        // Element görünür mü kontrol et
-                        if (isElementVisibleInMenu(sideMenu, menuName)) {
-                            TestUtils.logInfo("Element is visible, stopping scroll");
-                            break;
-                        }
-                        
-                        // Element görünür değilse scroll yap
-                        scrollMenuToBottom();
-                        TestUtils.waitForSeconds(2);
-                        attempt++;
-                    }
-                } catch (Exception e) {
-                    TestUtils.logInfo("Error during menu search, scrolling... (attempt " + (attempt + 1) + ")");
-                    scrollMenuToBottom();
-                    TestUtils.waitForSeconds(2);
-                    attempt++;
-                }
+            if (menuLocator == null) {
+                // Menü lazy-load ediliyor olabilir - sonuna kadar kaydır ve index'i yeniden oku
+                TestUtils.logInfo("Menu not in index, scrolling sidebar and rebuilding index...");
+                scrollMenuToBottom();
+                menuIndex = MenuIndex.rebuild(driver);
+                menuLocator = menuIndex.menu(menuName);
             }
             
-            if (targetMenu == null) {
-                // Mevcut menüleri listele
-                List<WebElement> allMenus = sideMenu.findElements(By.xpath(".//ul//li"));
-                StringBuilder availableMenus = new StringBuilder();
-                for (int i = 0; i < allMenus.size(); i++) {
-                    String menuText = allMenus.get(i).getText().trim();
-                    if (!menuText.isEmpty()) {
-                        availableMenus.append(i).append(": ").append(menuText);
-                        if (i < allMenus.size() - 1) availableMenus.append(", ");
-                    }
-                }
-                TestUtils.logError("Menu '" + menuName + "' not found after " + maxAttempts + " attempts. Available menus: " + availableMenus.toString(), new Exception("Menu not found"));
-                throw new RuntimeException("Menu '" + menuName + "' not found after " + maxAttempts + " attempts");
+            if (menuLocator == null) {
+                TestUtils.logError("Menu '" + menuName + "' not found. Available menus: " + menuIndex.menuLabels(), new Exception("Menu not found"));
+                throw new RuntimeException("Menu '" + menuName + "' not found in sidebar");
             }
             
-            // Menüyü tıkla
-            String menuText = targetMenu.getText().trim();
-            TestUtils.logInfo("Clicking on menu: " + menuText);
-            
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", targetMenu);
-            TestUtils.waitForSeconds(2);
-            
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            wait.until(ExpectedConditions.elementToBeClickable(targetMenu));
-            
-            try {
-                targetMenu.click();
-                TestUtils.logSuccess("Normal click successful for menu: " + menuText);
-            } catch (Exception e) {
-                TestUtils.logInfo("Normal click failed, trying JavaScript click...");
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", targetMenu);
-                TestUtils.logSuccess("JavaScript click successful for menu: " + menuText);
-            }
+            // Menüyü tıkla - sidebar yeniden render edilirse (stale) element tekrar bulunur
+            By targetLocator = menuLocator;
+            TestUtils.logInfo("Clicking on menu: " + menuName + " (" + menuLocator + ")");
+            Retry.run("selectMenu.click", () -> {
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", driver.findElement(targetLocator));
+                
+                // Locator ile bekle - scroll sırasında render olursa stale referansta timeout'a kadar takılmaz
+                WebElement targetMenu = WaitEngine.until(driver, ExpectedConditions.elementToBeClickable(targetLocator), timeoutSeconds);
+                
+                try {
+                    targetMenu.click();
+                    TestUtils.logSuccess("Normal click successful for menu: " + menuName);
+                } catch (Exception e) {
+                    TestUtils.logInfo("Normal click failed, trying JavaScript click...");
+                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", targetMenu);
+                    TestUtils.logSuccess("JavaScript click successful for menu: " + menuName);
+                }
+            });
             
             // Son seçilen menüyü kaydet
             lastSelectedMenu = menuName;
             TestUtils.logInfo("Last selected menu saved: " + lastSelectedMenu);
             
+            // Menü tıklaması route değişikliği / istek başlattıysa bitmesini bekle
+            TestUtils.waitForPageToLoad(driver, timeoutSeconds);
+            
             TestUtils.logInfo("Waiting for menu to expand...");
             waitForSubMenuToExpand(5);
             
@@ -956,32 +1003,9 @@ public abstract class BaseTest {
         }
     }
     
-    // Menü içinde element görünür mü kontrol et
-    private boolean isElementVisibleInMenu(WebElement menuContainer, String menuName) {
-        try {
-            List<WebElement> menuElements = menuContainer.findElements(By.xpath(".//ul//li"));
-            for (WebElement menuElement : menuElements) {
-                String menuText = menuElement.getText().trim();
-                if (menuText.contains(menuName)) {
-                    // Element bulundu, görünür mü kontrol et
-                    boolean isDisplayed = menuElement.isDisplayed();
-                    TestUtils.logInfo("Element '" + menuName + "' found, isDisplayed: " + isDisplayed);
-                    return isDisplayed;
-                }
-            }
-            TestUtils.logInfo("Element '" + menuName + "' not found in menu");
-            return false;
-        } catch (Exception e) {
-            TestUtils.logError("Error checking element visibility", e);
-            return false;
-        }
-    }
-    
-
-    
     // Menü barını akıllı scroll yap - element görünürse scroll yapma
     protected void scrollMenuToBottom() {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("scrollMenuToBottom")) {
             TestUtils.logInfo("Starting smart menu scroll...");
             
             // Driver'ın aktif olduğunu kontrol et
@@ -991,7 +1015,7 @@ public abstract class BaseTest {
             }
             
             // Menü container'ını bul
-            WebElement menuContainer = driver.findElement(By.id("sidebar-menu"));
+            WebElement menuContainer = driver.findElement(Locators.Sidebar.MENU.primary());
             
             // Menü yüksekliğini al
             Object scrollTopObj = ((JavascriptExecutor) driver).executeScript("return arguments[0].scrollTop;", menuContainer);
@@ -1015,9 +1039,6 @@ public abstract class BaseTest {
                 // Menü içinde scroll yap
                 ((JavascriptExecutor) driver).executeScript("arguments[0].scrollTop = arguments[0].scrollHeight;", menuContainer);
                 
-                // Scroll sonrası bekle
-                TestUtils.waitForSeconds(1);
-                
                                     // Yeni scroll pozisyonunu al
                     Object newScrollTopObj = ((JavascriptExecutor) driver).executeScript("return arguments[0].scrollTop;", menuContainer);
                     Object newScrollHeightObj = ((JavascriptExecutor) driver).executeScript("return arguments[0].scrollHeight;", menuContainer);
@@ -1041,6 +1062,9 @@ public abstract class BaseTest {
                 
                 lastScrollTop = newScrollTop;
                 scrollAttempts++;
+                
+                // Menü kaydıysa lazy-load içeriği bekle - DOM değişince hemen devam et (en fazla 500 ms)
+                WaitEngine.awaitDomChange(driver, menuContainer, Duration.ofMillis(500));
             }
             
             if (scrollAttempts >= maxScrollAttempts) {
@@ -1057,15 +1081,20 @@ public abstract class BaseTest {
     
     // Genel sayfa açıldı mı kontrol et
     protected void verifyPageOpened() {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("verifyPageOpened")) {
             TestUtils.logInfo("Verifying page opened...");
             driver = getActiveDriver();
+            
+            // URL SPA geçişi ve istekler bittikten sonra kontrol edilsin
+            TestUtils.waitForPageToLoad(driver, 15);
             String currentUrl = driver.getCurrentUrl();
             TestUtils.logInfo("Current URL after click: " + currentUrl);
             
             // Dashboard'dan farklı bir sayfaya yönlendirildi mi kontrol et
-            boolean isDifferentPage = !currentUrl.equals("https://teamso.com/dashboard") && 
-                                    !currentUrl.contains("/dashboard/account/login");
+            // Host'tan bağımsız path karşılaştırması (canlı site / stand-in)
+            String currentPath = pathOf(currentUrl);
+            boolean isDifferentPage = !currentPath.equals("/dashboard") && 
+                                    !currentPath.contains("/dashboard/account/login");
             
             if (isDifferentPage) {
                 TestUtils.logSuccess("Page opened successfully - URL: " + currentUrl);
@@ -1083,13 +1112,29 @@ public abstract class BaseTest {
         }
     }
     
+    // Login sayfasından çıkıldı ve dashboard sidebar'ı yüklendi mi
+    private static boolean isPastLogin(WebDriver d) {
+        return !pathOf(d.getCurrentUrl()).startsWith("/dashboard/account/login")
+                && !d.findElements(Locators.Sidebar.MENU.primary()).isEmpty();
+    }
+    
+    // URL'in path kısmı (sondaki / olmadan)
+    private static String pathOf(String url) {
+        String path = URI.create(url).getPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+    
     // Ayarlar sayfasının açıldığını doğrula
     protected void verifySettingsPageOpened() {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("verifySettingsPageOpened")) {
             TestUtils.logInfo("Verifying settings page opened...");
             
             // Driver'ı aktif hale getir
             driver = getActiveDriver();
+            TestUtils.waitForPageToLoad(driver, 15);
             
             // Ayarlar sayfasının açıldığını doğrula
             String currentUrl = driver.getCurrentUrl();
@@ -1126,7 +1171,7 @@ public abstract class BaseTest {
     
     // Parametrik modül ve alt menü seçimi (eski metod - geriye uyumluluk için)
     protected void selectModuleSubMenu(String moduleName, int subMenuIndex, int timeoutSeconds) {
-        try {
+        try (Timings.Timer timer = Timings.startHelper("selectModuleSubMenu")) {
             TestUtils.logInfo("Selecting module: " + moduleName + " with sub-menu index: " + subMenuIndex);
             
             // Driver'ı aktif hale getir
@@ -1138,136 +1183,65 @@ public abstract class BaseTest {
             // Modül açılması için akıllı bekleme
             waitForSubMenuToExpand(3);
             
-            // Menü barını sonuna kadar scroll yap
-            scrollMenuToBottom();
-            
-            // Scroll sonrası akıllı bekleme - sub-menu elementleri yüklensin
-            waitForSubMenuToExpand(2);
-            
-            // side-menu div'ini bul
-            WebElement sideMenu = driver.findElement(By.id("sidebar-menu"));
-            
-            // Alt menüleri bulmak için akıllı scroll yap
-            int maxAttempts = 10;
-            int attempt = 0;
-            List<WebElement> subMenuElements = new java.util.ArrayList<>();
+            // Alt menü locator'ını index'ten al
+            MenuIndex menuIndex = MenuIndex.forDriver(driver);
+            By subMenuLocator = menuIndex.subMenu(moduleName, subMenuIndex);
             
-            while (attempt < maxAttempts) {
-                try {
-                    // class="sub-menu mm-collapse mm-show" olan alt listeleri bul
-                    // Daha güvenilir CSS selector kullan
-                    By subMenuLocator = By.cssSelector("ul.sub-menu.mm-collapse.mm-show > li");
-                    subMenuElements = sideMenu.findElements(subMenuLocator);
-                    
-                    // Eğer bulunamazsa alternatif selector dene
-                    if (subMenuElements.isEmpty()) {
-                        subMenuLocator = By.cssSelector(".sub-menu.mm-collapse.mm-show li");
-                        subMenuElements = sideMenu.findElements(subMenuLocator);
-                    }
-                    
-                    // Hala bulunamazsa XPath dene
-                    if (subMenuElements.isEmpty()) {
-                        subMenuLocator = By.xpath(".//ul[contains(@class, 'sub-menu') and contains(@class, 'mm-collapse') and contains(@class, 'mm-show')]//li");
-                        subMenuElements = sideMenu.findElements(subMenuLocator);
-                    }
-                    
-                    TestUtils.logInfo("Found " + subMenuElements.size() + " sub-menu items with mm-show class");
-                    
-                    // Boş olmayan alt menüleri filtrele ve index'leri koru
-                    List<WebElement> validSubMenus = new java.util.ArrayList<>();
-                    for (int i = 0; i < subMenuElements.size(); i++) {
-                        WebElement subMenu = subMenuElements.get(i);
-                        String subMenuText = subMenu.getText().trim();
-                        if (!subMenuText.isEmpty()) {
-                            validSubMenus.add(subMenu);
-                            TestUtils.logInfo("Valid sub-menu at original index " + i + ": " + subMenuText);
-                        }
-                    }
-                    
-                    TestUtils.logInfo("Found " + validSubMenus.size() + " valid (non-empty) sub-menu items");
-                    
-                    // ÖNCE SCROLL KONTROLÜ: Element görünür mü kontrol et
-                    boolean shouldScroll = true;
-                    if (subMenuIndex < subMenuElements.size()) {
-                        WebElement targetElement = subMenuElements.get(subMenuIndex);
-                        String targetText = targetElement.getText().trim();
-                        
-                        // Element görünür ve boş değilse scroll yapma
-                        if (targetElement.isDisplayed() && !targetText.isEmpty()) {
-                            TestUtils.logInfo("Target sub-menu found and visible at index " + subMenuIndex + ": " + targetText);
-                            subMenuElements = validSubMenus;
-                            shouldScroll = false;
-                            break;
-                        } else if (targetElement.isDisplayed() && targetText.isEmpty()) {
-                            TestUtils.logError("Index " + subMenuIndex + " is empty - this is an error, not a scroll issue", new Exception("Empty element at specified index"));
-                            throw new RuntimeException("Sub-menu at index " + subMenuIndex + " is empty. Please check the correct index.");
-                        } else {
-                            TestUtils.logInfo("Target element at index " + subMenuIndex + " is not displayed, need to scroll");
-                        }
-                    } else {
-                        TestUtils.logInfo("Sub-menu index " + subMenuIndex + " is out of bounds (" + subMenuElements.size() + "), need to scroll");
-                    }
-                    
-                    // SCROLL KONTROLÜ: Sadece gerekirse scroll yap
-                    if (shouldScroll) {
-                        TestUtils.logInfo("Scrolling menu bar to find target sub-menu... (attempt " + (attempt + 1) + ")");
-                        scrollMenuToBottom();
-                        waitForSubMenuToExpand(2);
-                        attempt++;
-                    }
-                    
-                } catch (Exception e) {
-                    TestUtils.logInfo("Error during sub-menu search, scrolling... (attempt " + (attempt + 1) + ")");
-                    scrollMenuToBottom();
-                    waitForSubMenuToExpand(2);
-                    attempt++;
-                }
-            }
-            
-            if (subMenuElements.isEmpty()) {
-                TestUtils.logError("No sub-menu items found after " + maxAttempts + " attempts", new Exception("Sub-menu not found"));
-                throw new RuntimeException("No sub-menu items found after " + maxAttempts + " attempts");
+            if (subMenuLocator == null) {
+                // Alt menüler lazy-load ediliyor olabilir - sonuna kadar kaydır ve index'i yeniden oku
+                TestUtils.logInfo("Sub-menu not in index, scrolling sidebar and rebuilding index...");
+                scrollMenuToBottom();
+                menuIndex = MenuIndex.rebuild(driver);
+                subMenuLocator = menuIndex.subMenu(moduleName, subMenuIndex);
             }
             
             // Tüm alt menüleri listele
+            List<String> subMenuLabels = menuIndex.subMenuLabels(moduleName);
             TestUtils.logInfo("Available sub-menus:");
-            for (int i = 0; i < subMenuElements.size(); i++) {
-                String subMenuText = subMenuElements.get(i).getText().trim();
-                TestUtils.logInfo("Index " + i + ": " + subMenuText);
+            for (int i = 0; i < subMenuLabels.size(); i++) {
+                TestUtils.logInfo("Index " + i + ": " + subMenuLabels.get(i));
+            }
+            
+            if (subMenuLabels.isEmpty()) {
+                TestUtils.logError("No sub-menu items found for module: " + moduleName, new Exception("Sub-menu not found"));
+                throw new RuntimeException("No sub-menu items found for module: " + moduleName);
             }
             
             // Index kontrolü
-            if (subMenuIndex < 0 || subMenuIndex >= subMenuElements.size()) {
+            if (subMenuLocator == null) {
                 StringBuilder availableSubMenus = new StringBuilder();
-                for (int i = 0; i < subMenuElements.size(); i++) {
-                    availableSubMenus.append(i).append(": ").append(subMenuElements.get(i).getText().trim());
-                    if (i < subMenuElements.size() - 1) availableSubMenus.append(", ");
+                for (int i = 0; i < subMenuLabels.size(); i++) {
+                    availableSubMenus.append(i).append(": ").append(subMenuLabels.get(i));
+                    if (i < subMenuLabels.size() - 1) availableSubMenus.append(", ");
                 }
                 throw new RuntimeException("Sub-menu index " + subMenuIndex + " is out of range. Available sub-menus: " + availableSubMenus.toString());
             }
             
             // Belirtilen index'teki alt menüyü seç
-            WebElement targetSubMenu = subMenuElements.get(subMenuIndex);
-            String subMenuText = targetSubMenu.getText().trim();
+            By targetLocator = subMenuLocator;
+            String subMenuText = subMenuLabels.get(subMenuIndex);
             
             TestUtils.logInfo("Clicking on sub-menu item: " + subMenuText);
             
-            // Alt menüyü görünür hale getir (JavaScript scroll)
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", targetSubMenu);
-            
-            // Element tıklanabilir olana kadar akıllı bekleme
-            waitForElementToBeClickable(targetSubMenu, timeoutSeconds);
-            
-            // Önce normal tıklama dene
-            try {
-                targetSubMenu.click();
-                TestUtils.logSuccess("Normal click successful for sub-menu: " + subMenuText);
-            } catch (Exception e) {
-                TestUtils.logInfo("Normal click failed, trying JavaScript click...");
-                // JavaScript ile tıkla (daha güvenilir)
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", targetSubMenu);
-                TestUtils.logSuccess("JavaScript click successful for sub-menu: " + subMenuText);
-            }
+            // Stale (menü yeniden render) / intercepted durumunda element tekrar bulunup tıklanır
+            Retry.run("selectModuleSubMenu.click", () -> {
+                // Alt menüyü görünür hale getir (JavaScript scroll)
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", driver.findElement(targetLocator));
+                
+                // Element tıklanabilir olana kadar akıllı bekleme (locator ile - stale referansta takılmaz)
+                WebElement targetSubMenu = WaitEngine.until(driver, ExpectedConditions.elementToBeClickable(targetLocator), timeoutSeconds);
+                
+                // Önce normal tıklama dene
+                try {
+                    targetSubMenu.click();
+                    TestUtils.logSuccess("Normal click successful for sub-menu: " + subMenuText);
+                } catch (Exception e) {
+                    TestUtils.logInfo("Normal click failed, trying JavaScript click...");
+                    // JavaScript ile tıkla (daha güvenilir)
+                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", targetSubMenu);
+                    TestUtils.logSuccess("JavaScript click successful for sub-menu: " + subMenuText);
+                }
+            });
             
             // Tıklama sonrası akıllı bekleme
             TestUtils.logInfo("Waiting for click effect...");
@@ -1279,7 +1253,7 @@ public abstract class BaseTest {
             TestUtils.logInfo("Current URL after click: " + currentUrl);
             
             // Eğer URL değişmediyse, sayfa içeriğini kontrol et
-            if (currentUrl.equals("https://teamso.com/dashboard")) {
+            if (pathOf(currentUrl).equals("/dashboard")) {
                 TestUtils.logInfo("URL did not change, checking page content...");
                 // Sayfa içeriğinde alt menü metnini ara
                 try {
@@ -0,0 +1,132 @@
+package utilities;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Properties;
+
+public class DriverBinaryResolver {
+
+    // Çözülen binary bilgisinin saklandığı dosya
+    private static final Path CACHE_FILE = Paths.get("target", "driver-cache", "chromedriver.properties");
+
+    // Lokal binary verilirse network'e hiç çıkılmaz
+    private static final String OFFLINE_PATH_PROPERTY = "chromedriver.path";
+
+    private static final Duration MAX_CACHE_AGE = Duration.ofHours(Long.getLong("chromedriver.cache.hours", 24));
+
+    private static final String SELENIUM_DRIVER_PROPERTY = "webdriver.chrome.driver";
+
+    // JVM başına tek çözüm
+    private static volatile String resolvedPath;
+
+    private DriverBinaryResolver() {
+    }
+
+    // Chromedriver binary'sini çöz ve webdriver.chrome.driver olarak ayarla
+    public static String resolve() {
+        String path = resolvedPath;
+        if (path != null) {
+            return path;
+        }
+        // Paralel thread'ler aynı çözümü bekler, yarışmaz
+        synchronized (DriverBinaryResolver.class) {
+            if (resolvedPath == null) {
+                path = resolveOnce();
+                System.setProperty(SELENIUM_DRIVER_PROPERTY, path);
+                resolvedPath = path;
+            }
+            return resolvedPath;
+        }
+    }
+
+    private static String resolveOnce() {
+        // 1. Offline mod - lokal binary
+        String offlinePath = System.getProperty(OFFLINE_PATH_PROPERTY);
+        if (offlinePath != null && !offlinePath.isEmpty()) {
+            if (!new File(offlinePath).canExecute()) {
+                throw new RuntimeException("Offline chromedriver not found or not executable: " + offlinePath);
+            }
+            TestUtils.logInfo("Using local chromedriver (offline mode): " + offlinePath);
+            return offlinePath;
+        }
+
+        // 2. Daha önce çözülmüş ve hala geçerli binary
+        Properties cached = readCache();
+        if (cached != null) {
+            TestUtils.logInfo("Using cached chromedriver " + cached.getProperty("version") + ": " + cached.getProperty("path"));
+            return cached.getProperty("path");
+        }
+
+        // 3. WebDriverManager ile çöz (cache temizlemeden)
+        WebDriverManager manager = WebDriverManager.chromedriver();
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+        String version = manager.getDownloadedDriverVersion();
+        if (path == null) {
+            path = System.getProperty(SELENIUM_DRIVER_PROPERTY);
+        }
+        if (path == null) {
+            throw new RuntimeException("WebDriverManager could not resolve a chromedriver binary");
+        }
+        writeCache(path, version);
+        TestUtils.logSuccess("Chromedriver " + version + " resolved: " + path);
+        return path;
+    }
+
+    private static Properties readCache() {
+        if (!Files.isRegularFile(CACHE_FILE)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+            properties.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            TestUtils.logWarning("Could not read chromedriver cache: " + e.getMessage());
+            return null;
+        }
+
+        String path = properties.getProperty("path");
+        long resolvedAt;
+        try {
+            resolvedAt = Long.parseLong(properties.getProperty("resolvedAt", "0").trim());
+        } catch (NumberFormatException e) {
+            // Yarım yazılmış / bozuk cache - yeniden çöz
+            return null;
+        }
+        boolean expired = System.currentTimeMillis() - resolvedAt > MAX_CACHE_AGE.toMillis();
+        if (path == null || expired || !new File(path).canExecute()) {
+            return null;
+        }
+        return properties;
+    }
+
+    private static void writeCache(String path, String version) {
+        Properties properties = new Properties();
+        properties.setProperty("path", path);
+        properties.setProperty("version", version != null ? version : "unknown");
+        properties.setProperty("resolvedAt", String.valueOf(System.currentTimeMillis()));
+        try {
+            Files.createDirectories(CACHE_FILE.getParent());
+            // Paralel fork/shard'lar okurken yarım dosya görmesin - aynı dizinde geçici dosya + atomik rename
+            Path temp = Files.createTempFile(CACHE_FILE.getParent(), "chromedriver", ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    properties.store(out, "Resolved chromedriver binary");
+                }
+                Files.move(temp, CACHE_FILE, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            TestUtils.logWarning("Could not write chromedriver cache: " + e.getMessage());
+        }
+    }
+}
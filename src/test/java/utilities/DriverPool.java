@@ -0,0 +1,180 @@
+package utilities;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DriverPool {
+
+    // Havuzdaki maksimum browser sayısı (surefire threadCount ile aynı tutulmalı)
+    private static final int MAX_SIZE = Integer.getInteger("driver.pool.size", 4);
+
+    private static final long LEASE_TIMEOUT_SECONDS = 120;
+
+    private static final BlockingQueue<WebDriver> IDLE = new LinkedBlockingQueue<>();
+    private static final Set<WebDriver> ALL = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger CREATED = new AtomicInteger();
+
+    // Her Cucumber thread'i kendi driver'ını kiralar
+    private static final ThreadLocal<WebDriver> LEASED = new ThreadLocal<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {
+    }
+
+    // ========== LEASE / RELEASE ==========
+
+    // Thread'e ait driver'ı getir, yoksa havuzdan kirala
+    public static WebDriver lease() {
+        WebDriver driver = LEASED.get();
+        if (driver != null) {
+            return driver;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LEASE_TIMEOUT_SECONDS);
+        while (driver == null) {
+            driver = pollIdle();
+            if (driver == null) {
+                driver = tryCreate();
+            }
+            if (driver == null) {
+                if (System.nanoTime() > deadline) {
+                    throw new RuntimeException("No driver available in pool within " + LEASE_TIMEOUT_SECONDS + " seconds (max size: " + MAX_SIZE + ")");
+                }
+                try {
+                    driver = IDLE.poll(500, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for a pooled driver", e);
+                }
+                if (driver != null && !isAlive(driver)) {
+                    discard(driver);
+                    driver = null;
+                }
+            }
+        }
+
+        LEASED.set(driver);
+        return driver;
+    }
+
+    // Thread'in driver'ını sıfırlayıp havuza geri ver (quit etme)
+    public static void release() {
+        WebDriver driver = LEASED.get();
+        if (driver == null) {
+            return;
+        }
+        LEASED.remove();
+
+        if (reset(driver)) {
+            IDLE.offer(driver);
+        } else {
+            discard(driver);
+        }
+    }
+
+    // Thread'in kiraladığı driver (yoksa null)
+    public static WebDriver current() {
+        return LEASED.get();
+    }
+
+    // Tüm driver'ları kapat
+    public static void shutdown() {
+        IDLE.clear();
+        for (WebDriver driver : ALL) {
+            quitQuietly(driver);
+        }
+        ALL.clear();
+        CREATED.set(0);
+    }
+
+    // ========== INTERNALS ==========
+
+    private static WebDriver pollIdle() {
+        WebDriver driver;
+        while ((driver = IDLE.poll()) != null) {
+            if (isAlive(driver)) {
+                return driver;
+            }
+            discard(driver);
+        }
+        return null;
+    }
+
+    private static WebDriver tryCreate() {
+        if (CREATED.incrementAndGet() > MAX_SIZE) {
+            CREATED.decrementAndGet();
+            return null;
+        }
+        try {
+            WebDriver driver = MyDriver.createChromeDriver();
+            ALL.add(driver);
+            TestUtils.logInfo("Pooled driver created (" + CREATED.get() + "/" + MAX_SIZE + ")");
+            return driver;
+        } catch (RuntimeException e) {
+            CREATED.decrementAndGet();
+            throw e;
+        }
+    }
+
+    // Cookie, storage ve fazla pencereleri temizle - browser açık kalsın
+    private static boolean reset(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String first = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(first)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(first);
+
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            if (driver instanceof HasCdp) {
+                // Sadece mevcut domain değil, tüm domain'lerin cookie'lerini sil
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            TestUtils.logWarning("Pooled driver reset failed, discarding: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void discard(WebDriver driver) {
+        if (ALL.remove(driver)) {
+            CREATED.decrementAndGet();
+        }
+        quitQuietly(driver);
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Error while closing driver: " + e.getMessage());
+        }
+    }
+}
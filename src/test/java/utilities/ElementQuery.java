@@ -0,0 +1,158 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class ElementQuery {
+
+    // Tüm eşleşen elementlerin durumunu tek script ile topla
+    private static final String QUERY_SCRIPT =
+            "var root = arguments[0] || document, using = arguments[1], value = arguments[2], given = arguments[3];" +
+            "var els = [], i;" +
+            "if (given) { els = given; }" +
+            "else if (using === 'css selector') { els = Array.prototype.slice.call(root.querySelectorAll(value)); }" +
+            "else if (using === 'xpath') {" +
+            "  var snapshot = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  for (i = 0; i < snapshot.snapshotLength; i++) { els.push(snapshot.snapshotItem(i)); }" +
+            "} else if (using === 'tag name') { els = Array.prototype.slice.call(root.getElementsByTagName(value)); }" +
+            "else if (using === 'link text' || using === 'partial link text') {" +
+            "  els = Array.prototype.slice.call(root.getElementsByTagName('a')).filter(function(a) {" +
+            "    var t = a.innerText.trim(); return using === 'link text' ? t === value : t.indexOf(value) >= 0; });" +
+            "} else { throw new Error('Unsupported locator strategy: ' + using); }" +
+            "return els.map(function(el) {" +
+            "  var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();" +
+            "  var displayed = !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)" +
+            "      && style.visibility !== 'hidden' && style.opacity !== '0';" +
+            "  return {element: el, text: displayed ? (el.innerText || '').trim() : ''," +
+            "      displayed: displayed, enabled: !el.disabled, selected: !!(el.checked || el.selected)," +
+            "      x: rect.left, y: rect.top, width: rect.width, height: rect.height};" +
+            "});";
+
+    private ElementQuery() {
+    }
+
+    // Tek elementin anlık durumu
+    public static class ElementInfo {
+        private final WebElement element;
+        private final String text;
+        private final boolean displayed;
+        private final boolean enabled;
+        private final boolean selected;
+        private final Rectangle rect;
+
+        ElementInfo(Map<String, Object> raw) {
+            this.element = (WebElement) raw.get("element");
+            this.text = String.valueOf(raw.get("text"));
+            this.displayed = Boolean.TRUE.equals(raw.get("displayed"));
+            this.enabled = Boolean.TRUE.equals(raw.get("enabled"));
+            this.selected = Boolean.TRUE.equals(raw.get("selected"));
+            this.rect = new Rectangle(toInt(raw.get("x")), toInt(raw.get("y")), toInt(raw.get("height")), toInt(raw.get("width")));
+        }
+
+        public WebElement getElement() {
+            return element;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isDisplayed() {
+            return displayed;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+
+        public boolean isClickable() {
+            return displayed && enabled;
+        }
+
+        public Rectangle getRect() {
+            return rect;
+        }
+
+        @Override
+        public String toString() {
+            return "'" + text + "' displayed=" + displayed + " enabled=" + enabled + " selected=" + selected + " rect=" + rect;
+        }
+
+        private static int toInt(Object value) {
+            return value instanceof Number ? (int) Math.round(((Number) value).doubleValue()) : 0;
+        }
+    }
+
+    // ========== QUERIES ==========
+
+    // Sayfadaki tüm eşleşmeler - tek round trip
+    public static List<ElementInfo> query(WebDriver driver, By locator) {
+        return query(driver, null, locator);
+    }
+
+    // root altındaki tüm eşleşmeler - tek round trip
+    public static List<ElementInfo> query(WebDriver driver, WebElement root, By locator) {
+        Object[] remote = toScriptLocator(locator);
+        Object result;
+        if (remote != null) {
+            result = ((JavascriptExecutor) driver).executeScript(QUERY_SCRIPT, root, remote[0], remote[1], null);
+        } else {
+            // Script'e çevrilemeyen locator - önce bul, sonra durumları tek script ile topla
+            SearchContext context = root != null ? root : driver;
+            List<WebElement> elements = context.findElements(locator);
+            if (elements.isEmpty()) {
+                return new ArrayList<>();
+            }
+            result = ((JavascriptExecutor) driver).executeScript(QUERY_SCRIPT, null, null, null, elements);
+        }
+        return toInfos(result);
+    }
+
+    // By'ı script tarafında kullanılabilir {using, value} çiftine çevir (çevrilemezse null)
+    // id/name/class name W3C öncesi stratejiler - script yalnızca css'i tanıdığı için css'e çevrilir
+    static Object[] toScriptLocator(By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            String using = parameters.using();
+            String value = String.valueOf(parameters.value());
+            switch (using) {
+                case "id":
+                    return new Object[]{"css selector", "[id=\"" + quote(value) + "\"]"};
+                case "name":
+                    return new Object[]{"css selector", "[name=\"" + quote(value) + "\"]"};
+                case "class name":
+                    return new Object[]{"css selector", "[class~=\"" + quote(value) + "\"]"};
+                default:
+                    return new Object[]{using, value};
+            }
+        }
+        return null;
+    }
+
+    // CSS attribute değeri için tırnak ve ters bölü kaçışı
+    private static String quote(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ElementInfo> toInfos(Object result) {
+        List<ElementInfo> infos = new ArrayList<>();
+        if (result instanceof List) {
+            for (Object raw : (List<Object>) result) {
+                infos.add(new ElementInfo((Map<String, Object>) raw));
+            }
+        }
+        return infos;
+    }
+}
@@ -0,0 +1,36 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Locator translation for the query/fill scripts, which only understand
+ * css selector, xpath and tag name.
+ */
+public class ElementQueryTest {
+
+    @Test
+    public void convertsLegacyStrategiesToCss() {
+        Assert.assertEquals(ElementQuery.toScriptLocator(By.id("lastName")),
+                new Object[]{"css selector", "[id=\"lastName\"]"});
+        Assert.assertEquals(ElementQuery.toScriptLocator(By.name("firstName")),
+                new Object[]{"css selector", "[name=\"firstName\"]"});
+        Assert.assertEquals(ElementQuery.toScriptLocator(By.className("active")),
+                new Object[]{"css selector", "[class~=\"active\"]"});
+    }
+
+    @Test
+    public void quotesAttributeValues() {
+        Assert.assertEquals(ElementQuery.toScriptLocator(By.name("a\"b")),
+                new Object[]{"css selector", "[name=\"a\\\"b\"]"});
+        Assert.assertEquals(ElementQuery.toScriptLocator(By.id("a\\b")),
+                new Object[]{"css selector", "[id=\"a\\\\b\"]"});
+    }
+
+    @Test
+    public void keepsScriptStrategies() {
+        Assert.assertEquals(ElementQuery.toScriptLocator(By.xpath("//h1")), new Object[]{"xpath", "//h1"});
+        Assert.assertEquals(ElementQuery.toScriptLocator(By.tagName("form")), new Object[]{"tag name", "form"});
+    }
+}
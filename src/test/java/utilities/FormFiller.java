@@ -0,0 +1,159 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bulk form fill: all scripted fields are resolved, waited for and set in one
+ * script call (native value setter + input/change/blur events, so Vue bindings update).
+ * Fields written as "keys:<spec>" still get real keystrokes from the caller.
+ */
+public class FormFiller {
+
+    // Gerçek tuş vuruşu gereken alanlar (maske, autocomplete, key handler'lar)
+    public static final String KEYS_PREFIX = "keys:";
+
+    // Önce tüm alanları çöz - biri eksik/disabled ise veya select'te değere uyan option yoksa
+    // hiçbirine dokunma, eksik index'leri döndür (option'lar sonradan yüklenebilir, tekrar denenir)
+    // id/name/class name locator'ları ElementQuery.toScriptLocator'da css'e çevrilmiş gelir
+    static final String FILL_SCRIPT =
+            "var fields = arguments[0], elements = [], missing = [];" +
+            "function find(using, value) {" +
+            "  if (using === 'css selector') { return document.querySelector(value); }" +
+            "  if (using === 'xpath') { return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue; }" +
+            "  if (using === 'tag name') { return document.getElementsByTagName(value)[0] || null; }" +
+            "  throw new Error('Unsupported locator strategy: ' + using);" +
+            "}" +
+            "function optionIndex(el, value) {" +
+            "  for (var o = 0; o < el.options.length; o++) {" +
+            "    var option = el.options[o];" +
+            "    if (option.value === value || option.text.trim() === value) { return o; }" +
+            "  }" +
+            "  return -1;" +
+            "}" +
+            "fields.forEach(function(field, i) {" +
+            "  var el = find(field[0], field[1]);" +
+            "  if (!el || el.disabled || el.readOnly || (el.tagName === 'SELECT' && optionIndex(el, field[2]) < 0)) { missing.push(i); }" +
+            "  elements.push(el);" +
+            "});" +
+            "if (missing.length) { return missing; }" +
+            "elements.forEach(function(el, i) {" +
+            "  var value = fields[i][2];" +
+            "  if (el.tagName === 'SELECT') {" +
+            "    el.selectedIndex = optionIndex(el, value);" +
+            "  } else if (el.type === 'checkbox' || el.type === 'radio') {" +
+            "    el.checked = value === 'true';" +
+            "  } else {" +
+            "    var proto = el.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+            "  }" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('blur'));" +
+            "});" +
+            "return true;";
+
+    private FormFiller() {
+    }
+
+    public static class Field {
+        private final String spec;
+        private final By locator;
+        private final String value;
+        private final boolean keystrokes;
+
+        Field(String spec, By locator, String value, boolean keystrokes) {
+            this.spec = spec;
+            this.locator = locator;
+            this.value = value;
+            this.keystrokes = keystrokes;
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public boolean needsKeystrokes() {
+            return keystrokes;
+        }
+
+        @Override
+        public String toString() {
+            return spec;
+        }
+    }
+
+    // "keys:" öneki + id:/name:/css: seçici (önek yoksa name attribute)
+    public static Field field(String spec, String value) {
+        boolean keystrokes = spec.startsWith(KEYS_PREFIX);
+        String selector = keystrokes ? spec.substring(KEYS_PREFIX.length()) : spec;
+
+        By locator;
+        if (selector.startsWith("id:")) {
+            locator = By.id(selector.substring(3));
+        } else if (selector.startsWith("name:")) {
+            locator = By.name(selector.substring(5));
+        } else if (selector.startsWith("css:")) {
+            locator = By.cssSelector(selector.substring(4));
+        } else {
+            locator = By.name(selector);
+        }
+        return new Field(spec, locator, value, keystrokes);
+    }
+
+    // Script ile doldurulabilen alanları tek çağrıda doldur - tuş vuruşu gerekenleri geri döndür
+    public static List<Field> fill(WebDriver driver, List<Field> fields, int timeoutSeconds) {
+        List<Field> scripted = new ArrayList<>();
+        List<Object> payload = new ArrayList<>();
+        List<Field> remaining = new ArrayList<>();
+        for (Field field : fields) {
+            Object[] remote = ElementQuery.toScriptLocator(field.locator);
+            if (field.keystrokes || remote == null) {
+                remaining.add(field);
+            } else {
+                scripted.add(field);
+                payload.add(Arrays.asList(remote[0], remote[1], field.value));
+            }
+        }
+        if (scripted.isEmpty()) {
+            return remaining;
+        }
+
+        // Bekleme ve doldurma aynı script - alanlar hazırsa tek round trip
+        Object[] lastMissing = new Object[1];
+        try {
+            WaitEngine.until(driver, d -> {
+                Object result = ((JavascriptExecutor) d).executeScript(FILL_SCRIPT, payload);
+                if (Boolean.TRUE.equals(result)) {
+                    return true;
+                }
+                lastMissing[0] = result;
+                return null;
+            }, timeoutSeconds);
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Form fields not found, not editable or without a matching option within " + timeoutSeconds + "s: "
+                    + describe(scripted, lastMissing[0]), e);
+        }
+        return remaining;
+    }
+
+    private static String describe(List<Field> scripted, Object missing) {
+        List<String> names = new ArrayList<>();
+        if (missing instanceof List) {
+            for (Object index : (List<?>) missing) {
+                Field field = scripted.get(((Number) index).intValue());
+                names.add(field + "=" + field.value);
+            }
+        }
+        return names.toString();
+    }
+}
@@ -0,0 +1,234 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FormFiller without a browser: the driver stub runs the real fill script in
+ * node against a minimal DOM (skipped when node is not on the PATH).
+ */
+public class FormFillerTest {
+
+    // Script'in kullandığı DOM parçaları - querySelector/evaluate seçiciyi birebir eşler
+    // Her elemanın kendi value setter'ı var (Vue gibi) - script prototype'taki native setter'ı kullanmalı
+    private static final String DOM_SHIM =
+            "var elements = {};" +
+            "function valueProperty(flag) {" +
+            "  return {get: function() { return this._value; }, set: function(v) { this._value = v; this[flag] = true; }, configurable: true};" +
+            "}" +
+            "function HTMLInputElement() {}" +
+            "Object.defineProperty(HTMLInputElement.prototype, 'value', valueProperty('nativeSet'));" +
+            "function HTMLTextAreaElement() {}" +
+            "Object.defineProperty(HTMLTextAreaElement.prototype, 'value', valueProperty('nativeSet'));" +
+            "function HTMLSelectElement() {}" +
+            "function Event(type, init) { this.type = type; this.bubbles = !!(init && init.bubbles); }" +
+            "var XPathResult = {FIRST_ORDERED_NODE_TYPE: 9};" +
+            "var document = {" +
+            "  querySelector: function(s) { return elements[s] || null; }," +
+            "  evaluate: function(x) { return {singleNodeValue: elements[x] || null}; }," +
+            "  getElementsByTagName: function(t) {" +
+            "    return Object.keys(elements).map(function(k) { return elements[k]; })" +
+            "        .filter(function(el) { return el.tagName === t.toUpperCase(); });" +
+            "  }" +
+            "};" +
+            "Object.keys(dom).forEach(function(selector) {" +
+            "  var spec = dom[selector], tag = spec.tag || 'INPUT';" +
+            "  var proto = tag === 'SELECT' ? HTMLSelectElement.prototype" +
+            "      : tag === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "  var el = Object.create(proto);" +
+            "  el.tagName = tag; el.type = spec.type || 'text'; el.disabled = !!spec.disabled; el.readOnly = false;" +
+            "  el._value = ''; el.checked = false; el.events = [];" +
+            "  el.options = (spec.options || []).map(function(o) { return {value: o[0], text: o[1]}; });" +
+            "  el.selectedIndex = spec.selectedIndex === undefined ? -1 : spec.selectedIndex;" +
+            "  Object.defineProperty(el, 'value', valueProperty('instanceSet'));" +
+            "  el.dispatchEvent = function(e) { this.events.push(e.type); return true; };" +
+            "  elements[selector] = el;" +
+            "});" +
+            "function state() {" +
+            "  var result = {};" +
+            "  Object.keys(elements).forEach(function(k) {" +
+            "    var el = elements[k];" +
+            "    result[k] = {value: el._value, nativeSet: !!el.nativeSet, instanceSet: !!el.instanceSet," +
+            "        checked: el.checked, selectedIndex: el.selectedIndex, events: el.events};" +
+            "  });" +
+            "  return result;" +
+            "}";
+
+    // Son script çağrısından sonraki DOM durumu: seçici -> alanlar
+    private Map<String, Object> state;
+
+    @BeforeClass
+    public void requireNode() {
+        try {
+            Process process = new ProcessBuilder("node", "--version").redirectErrorStream(true).start();
+            if (!process.waitFor(10, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                throw new SkipException("node is not usable");
+            }
+        } catch (IOException | InterruptedException e) {
+            throw new SkipException("node is not available: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void fillsTextFieldsThroughNativeSetter() {
+        Map<String, Object> dom = new LinkedHashMap<>();
+        dom.put("[name=\"firstName\"]", Map.of());
+        dom.put("[id=\"notes\"]", Map.of("tag", "TEXTAREA"));
+        WebDriver driver = nodeDriver(dom);
+
+        List<FormFiller.Field> remaining = FormFiller.fill(driver, Arrays.asList(
+                FormFiller.field("firstName", "Ada"),
+                FormFiller.field("id:notes", "Lovelace"),
+                FormFiller.field("keys:name:phone", "5551234")), 1);
+
+        Assert.assertEquals(remaining.size(), 1);
+        Assert.assertEquals(remaining.get(0).getLocator(), By.name("phone"));
+        for (String selector : Arrays.asList("[name=\"firstName\"]", "[id=\"notes\"]")) {
+            Assert.assertEquals(field(selector).get("nativeSet"), true, selector);
+            Assert.assertEquals(field(selector).get("instanceSet"), false, selector);
+            Assert.assertEquals(field(selector).get("events"), Arrays.asList("input", "change", "blur"), selector);
+        }
+        Assert.assertEquals(field("[name=\"firstName\"]").get("value"), "Ada");
+        Assert.assertEquals(field("[id=\"notes\"]").get("value"), "Lovelace");
+    }
+
+    @Test
+    public void selectsOptionByValueOrText() {
+        List<List<String>> options = Arrays.asList(Arrays.asList("34", "İstanbul"), Arrays.asList("06", " Ankara "));
+        Map<String, Object> dom = new LinkedHashMap<>();
+        dom.put("[name=\"from\"]", Map.of("tag", "SELECT", "options", options));
+        dom.put("[name=\"to\"]", Map.of("tag", "SELECT", "options", options));
+        WebDriver driver = nodeDriver(dom);
+
+        FormFiller.fill(driver, Arrays.asList(FormFiller.field("from", "34"), FormFiller.field("to", "Ankara")), 1);
+
+        Assert.assertEquals(field("[name=\"from\"]").get("selectedIndex"), 0L);
+        Assert.assertEquals(field("[name=\"to\"]").get("selectedIndex"), 1L);
+        Assert.assertEquals(field("[name=\"to\"]").get("events"), Arrays.asList("input", "change", "blur"));
+    }
+
+    @Test
+    public void selectWithoutMatchingOptionIsReportedMissing() {
+        Map<String, Object> dom = new LinkedHashMap<>();
+        dom.put("[name=\"firstName\"]", Map.of());
+        dom.put("[name=\"city\"]", Map.of("tag", "SELECT", "selectedIndex", 0,
+                "options", Arrays.asList(Arrays.asList("34", "İstanbul"))));
+        WebDriver driver = nodeDriver(dom);
+
+        TimeoutException error = Assert.expectThrows(TimeoutException.class, () -> FormFiller.fill(driver, Arrays.asList(
+                FormFiller.field("firstName", "Ada"),
+                FormFiller.field("city", "İzmir")), 1));
+
+        Assert.assertTrue(error.getMessage().contains("[city=İzmir]"), error.getMessage());
+        Assert.assertEquals(field("[name=\"city\"]").get("selectedIndex"), 0L);
+        Assert.assertEquals(field("[name=\"firstName\"]").get("events"), Arrays.asList());
+    }
+
+    @Test
+    public void setsCheckboxFromBooleanText() {
+        Map<String, Object> dom = new LinkedHashMap<>();
+        dom.put("[name=\"terms\"]", Map.of("type", "checkbox"));
+        WebDriver driver = nodeDriver(dom);
+
+        FormFiller.fill(driver, Arrays.asList(FormFiller.field("terms", "true")), 1);
+
+        Assert.assertEquals(field("[name=\"terms\"]").get("checked"), true);
+    }
+
+    @Test
+    public void disabledFieldBlocksTheWholeForm() {
+        Map<String, Object> dom = new LinkedHashMap<>();
+        dom.put("[name=\"firstName\"]", Map.of());
+        dom.put("[name=\"lastName\"]", Map.of("disabled", true));
+        WebDriver driver = nodeDriver(dom);
+
+        TimeoutException error = Assert.expectThrows(TimeoutException.class, () -> FormFiller.fill(driver, Arrays.asList(
+                FormFiller.field("firstName", "Ada"),
+                FormFiller.field("lastName", "Lovelace")), 1));
+
+        Assert.assertTrue(error.getMessage().contains("[lastName=Lovelace]"), error.getMessage());
+        Assert.assertEquals(field("[name=\"firstName\"]").get("value"), "");
+        Assert.assertEquals(field("[name=\"firstName\"]").get("events"), Arrays.asList());
+    }
+
+    @Test
+    public void rejectsUnsupportedStrategy() {
+        WebDriver driver = nodeDriver(Map.of("[id=\"x\"]", Map.of()));
+        List<?> payload = Arrays.asList(Arrays.asList("id", "x", "value"));
+
+        JavascriptException error = Assert.expectThrows(JavascriptException.class,
+                () -> ((JavascriptExecutor) driver).executeScript(FormFiller.FILL_SCRIPT, payload));
+
+        Assert.assertTrue(error.getMessage().contains("Unsupported locator strategy: id"), error.getMessage());
+    }
+
+    // ========== NODE DRIVER ==========
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> field(String selector) {
+        return (Map<String, Object>) state.get(selector);
+    }
+
+    // executeScript script'i node'da dom üzerinde çalıştırır - her çağrı aynı başlangıç DOM'undan başlar
+    private WebDriver nodeDriver(Map<String, Object> dom) {
+        Object timeouts = Proxy.newProxyInstance(FormFillerTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.Timeouts.class}, (proxy, method, args) -> proxy);
+        Object options = Proxy.newProxyInstance(FormFillerTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.Options.class}, (proxy, method, args) -> timeouts);
+        return (WebDriver) Proxy.newProxyInstance(FormFillerTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    if ("manage".equals(method.getName())) {
+                        return options;
+                    }
+                    if (!"executeScript".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return runInNode((String) args[0], Arrays.asList((Object[]) args[1]), dom);
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object runInNode(String script, List<Object> args, Map<String, Object> dom) throws Exception {
+        Json json = new Json();
+        String program = "var dom = " + json.toJson(dom) + ";" + DOM_SHIM +
+                "var out;" +
+                "try {" +
+                "  var result = (function() {" + script + "}).apply(null, " + json.toJson(args) + ");" +
+                "  out = {result: result === undefined ? null : result, state: state()};" +
+                "} catch (e) { out = {error: String(e && e.message)}; }" +
+                "process.stdout.write(JSON.stringify(out));";
+
+        Process process = new ProcessBuilder("node", "-").redirectErrorStream(true).start();
+        try (OutputStream stdin = process.getOutputStream()) {
+            stdin.write(program.getBytes(StandardCharsets.UTF_8));
+        }
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (!process.waitFor(10, TimeUnit.SECONDS) || process.exitValue() != 0) {
+            throw new IllegalStateException("node failed: " + output);
+        }
+
+        Map<String, Object> parsed = json.toType(output, Json.MAP_TYPE);
+        if (parsed.containsKey("error")) {
+            throw new JavascriptException(String.valueOf(parsed.get("error")));
+        }
+        state = (Map<String, Object>) parsed.get("state");
+        return parsed.get("result");
+    }
+}
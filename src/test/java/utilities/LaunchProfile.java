@@ -0,0 +1,90 @@
+package utilities;
+
+import org.openqa.selenium.PageLoadStrategy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public enum LaunchProfile {
+
+    // Lokal debug - görünür, tam boyut pencere (eski varsayılan davranış)
+    DEBUG_HEADED("debug-headed", false, PageLoadStrategy.NORMAL, Collections.emptyList(),
+            "--window-size=2560,1440"),
+
+    // CI - headless, resim/font/3rd-party istekleri kapalı, az renderer process
+    FAST_HEADLESS("fast-headless", true, PageLoadStrategy.EAGER,
+            Arrays.asList("*.woff", "*.woff2", "*.ttf", "*.otf",
+                    "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+                    "*facebook.net*", "*hotjar.com*", "*clarity.ms*"),
+            "--headless=new",
+            "--window-size=1920,1080",
+            "--blink-settings=imagesEnabled=false",
+            "--disable-background-networking",
+            "--disable-background-timer-throttling",
+            "--disable-renderer-backgrounding",
+            "--disable-sync",
+            "--no-first-run",
+            "--mute-audio",
+            "--renderer-process-limit=2");
+
+    private static final String PROPERTY = "launch.profile";
+
+    private final String id;
+    private final boolean headless;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final List<String> blockedUrls;
+    private final List<String> arguments;
+
+    LaunchProfile(String id, boolean headless, PageLoadStrategy pageLoadStrategy, List<String> blockedUrls, String... arguments) {
+        this.id = id;
+        this.headless = headless;
+        this.pageLoadStrategy = pageLoadStrategy;
+        this.blockedUrls = blockedUrls;
+        this.arguments = Arrays.asList(arguments);
+    }
+
+    // -Dlaunch.profile=fast-headless ile seçilir (varsayılan debug-headed)
+    public static LaunchProfile current() {
+        String value = System.getProperty(PROPERTY, DEBUG_HEADED.id);
+        for (LaunchProfile profile : values()) {
+            if (profile.id.equalsIgnoreCase(value)) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + PROPERTY + " '" + value + "', expected one of: " + Arrays.toString(ids()));
+    }
+
+    private static String[] ids() {
+        String[] ids = new String[values().length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = values()[i].id;
+        }
+        return ids;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public PageLoadStrategy getPageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+
+    // CDP Network.setBlockedURLs pattern'leri
+    public List<String> getBlockedUrls() {
+        return blockedUrls;
+    }
+
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    // Resimleri Chrome content setting ile de kapat
+    public boolean blocksImages() {
+        return arguments.contains("--blink-settings=imagesEnabled=false");
+    }
+}
@@ -0,0 +1,172 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Named element locator with ordered fallback strategies (see Locators).
+ * Every poll tries the primary first; match statistics are kept across runs
+ * in target/locator-stats.properties and primaries that keep failing are flagged.
+ */
+public class Locator {
+
+    private static final Path STATS_FILE = Paths.get("target", "locator-stats.properties");
+
+    // Bu kadar fallback'ten sonra (koşumlar arası toplam) primary strateji bozuk sayılır
+    private static final int FALLBACK_WARN_THRESHOLD = Integer.getInteger("locator.fallback.warn", 3);
+
+    private static final Map<String, Locator> REGISTRY = new ConcurrentHashMap<>();
+    private static final Properties STORED = load();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(Locator::save, "locator-stats"));
+    }
+
+    private final String name;
+    private final List<By> strategies;
+    // Son eşleşen stratejinin index'i - sadece istatistik, deneme sırasını değiştirmez
+    private volatile int lastMatch;
+    private final AtomicInteger lookups;
+    private final AtomicInteger fallbacks;
+
+    private Locator(String name, By... strategies) {
+        this.name = name;
+        this.strategies = Collections.unmodifiableList(Arrays.asList(strategies));
+        int stored = storedInt(name + ".lastMatch");
+        this.lastMatch = stored < strategies.length ? stored : 0;
+        this.lookups = new AtomicInteger(storedInt(name + ".lookups"));
+        this.fallbacks = new AtomicInteger(storedInt(name + ".fallbacks"));
+    }
+
+    // İlk strateji primary, diğerleri sırayla fallback
+    public static Locator of(String name, By primary, By... fallbacks) {
+        By[] strategies = new By[fallbacks.length + 1];
+        strategies[0] = primary;
+        System.arraycopy(fallbacks, 0, strategies, 1, fallbacks.length);
+        Locator locator = new Locator(name, strategies);
+        REGISTRY.put(name, locator);
+        return locator;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Fallback'i olmayan locator'larda direkt By
+    public By primary() {
+        return strategies.get(0);
+    }
+
+    // Eşleşen stratejiyi bul - her poll'da önce primary denenir, hiçbiri eşleşmezse timeout
+    // Genel fallback'ler (ör. "form button[type='submit']") primary render olmadan başka bir elemana uyabilir,
+    // bu yüzden bir fallback eşleşmesi sonraki aramaların sırasını değiştirmez
+    public By resolve(WebDriver driver, int timeoutSeconds) {
+        if (strategies.size() == 1) {
+            return strategies.get(0);
+        }
+
+        By match;
+        try {
+            // Tek bekleme içinde her poll'da tüm stratejiler - implicit wait ProbeMode ile kapalı
+            match = WaitEngine.until(driver, d -> {
+                for (By candidate : strategies) {
+                    if (!d.findElements(candidate).isEmpty()) {
+                        return candidate;
+                    }
+                }
+                return null;
+            }, timeoutSeconds);
+        } catch (TimeoutException e) {
+            throw new TimeoutException("No strategy matched for locator '" + name + "' within " + timeoutSeconds + "s: " + strategies, e);
+        }
+
+        record(strategies.indexOf(match));
+        return match;
+    }
+
+    private void record(int index) {
+        lookups.incrementAndGet();
+        lastMatch = index;
+        if (index == 0) {
+            return;
+        }
+        int count = fallbacks.incrementAndGet();
+        if (count == FALLBACK_WARN_THRESHOLD) {
+            TestUtils.logWarning("Locator '" + name + "' keeps falling back (" + count + " times): primary "
+                    + strategies.get(0) + " no longer matches, " + strategies.get(index) + " does");
+        }
+    }
+
+    // ========== PERSISTENCE ==========
+
+    // Bozuk veya eksik değer istatistiği sıfırlar - Locators'ın static init'i hata vermesin
+    private static int storedInt(String key) {
+        try {
+            return Math.max(0, Integer.parseInt(STORED.getProperty(key, "0").trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(STATS_FILE)) {
+            try (Reader reader = Files.newBufferedReader(STATS_FILE)) {
+                properties.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Locator stats could not be read: " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    private static void save() {
+        Map<String, String> values = new TreeMap<>();
+        for (String key : STORED.stringPropertyNames()) {
+            // Eski sürümlerin kalıcı sıra bilgisi artık kullanılmıyor
+            if (!key.endsWith(".preferred")) {
+                values.put(key, STORED.getProperty(key));
+            }
+        }
+        List<String> flagged = new ArrayList<>();
+        for (Locator locator : REGISTRY.values()) {
+            values.put(locator.name + ".lastMatch", String.valueOf(locator.lastMatch));
+            values.put(locator.name + ".lookups", String.valueOf(locator.lookups.get()));
+            values.put(locator.name + ".fallbacks", String.valueOf(locator.fallbacks.get()));
+            if (locator.fallbacks.get() >= FALLBACK_WARN_THRESHOLD && locator.lastMatch != 0) {
+                flagged.add(locator.name);
+            }
+        }
+
+        try {
+            Files.createDirectories(STATS_FILE.getParent());
+            try (Writer writer = Files.newBufferedWriter(STATS_FILE)) {
+                writer.write("# Last matching strategy per locator (0 = primary, statistics only); fallbacks > 0 means the primary is stale\n");
+                if (!flagged.isEmpty()) {
+                    writer.write("# Flagged (primary keeps failing): " + String.join(", ", flagged) + "\n");
+                }
+                for (Map.Entry<String, String> entry : values.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Locator stats could not be written: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central locator registry per page. By instances are built once;
+ * locators with fallbacks are resolved through Locator.resolve.
+ */
+public final class Locators {
+
+    private Locators() {
+    }
+
+    // ========== LOGIN PAGE ==========
+
+    public static final class Login {
+
+        public static final Locator EMAIL_INPUT = Locator.of("login.emailInput",
+                By.id("emailInputOnLoginPage"),
+                By.cssSelector("input[type='email']"));
+
+        public static final Locator CONTINUE_BUTTON = Locator.of("login.continueButton",
+                By.id("login-button"),
+                By.cssSelector("form button[type='submit']"));
+
+        public static final Locator ACCOUNT_SEARCH_INPUT = Locator.of("login.accountSearchInput",
+                By.cssSelector("input[placeholder='Hesap ara...']"),
+                By.cssSelector("input[type='search']"));
+
+        public static final Locator ACCOUNT_SELECT_BUTTONS = Locator.of("login.accountSelectButtons",
+                By.cssSelector("button[id='accountSelectButtonOnLoginPage']"),
+                By.cssSelector("button[id^='accountSelectButton']"));
+
+        public static final Locator PASSWORD_INPUT = Locator.of("login.passwordInput",
+                By.id("passwordInputOnLoginPage"),
+                By.cssSelector("input[type='password']"));
+
+        public static final Locator LOGIN_BUTTON = Locator.of("login.loginButton",
+                By.id("loginButtonInPasswordCheckInLoginPage"),
+                By.xpath("//input[@type='password']/following::button[@type='submit'][1]"));
+
+        // Logout sonrası karşılama başlığı
+        public static final Locator WELCOME_HEADING = Locator.of("login.welcomeHeading",
+                By.xpath("//h1[contains(text(),'Hoş Geldin')]"));
+
+        private Login() {
+        }
+    }
+
+    // ========== SIDEBAR ==========
+
+    public static final class Sidebar {
+
+        public static final Locator MENU = Locator.of("sidebar.menu",
+                By.id("sidebar-menu"));
+
+        public static final Locator EXPANDED_SUB_MENU = Locator.of("sidebar.expandedSubMenu",
+                By.cssSelector(".sub-menu.mm-collapse.mm-show"));
+
+        private Sidebar() {
+        }
+    }
+
+    // ========== DASHBOARD ==========
+
+    public static final class Dashboard {
+
+        // bootstrap-vue otomatik id'si - component sırası değişince kayar
+        public static final Locator USER_DROPDOWN_TOGGLE = Locator.of("dashboard.userDropdownToggle",
+                By.id("__BVID__31__BV_toggle_"),
+                By.cssSelector("header .b-dropdown > button.dropdown-toggle"),
+                By.cssSelector("button[id$='__BV_toggle_']"));
+
+        public static final Locator USER_DROPDOWN_ITEMS = Locator.of("dashboard.userDropdownItems",
+                By.cssSelector("a.dropdown-item"));
+
+        private Dashboard() {
+        }
+    }
+
+    // ========== FORMS ==========
+
+    public static final class Form {
+
+        // Option text -> derlenmiş XPath, her seçimde string birleştirme yapılmaz
+        private static final Map<String, By> OPTIONS = new ConcurrentHashMap<>();
+
+        private Form() {
+        }
+
+        public static By option(String optionText) {
+            return OPTIONS.computeIfAbsent(optionText, text -> By.xpath("//option[contains(text()," + xpathLiteral(text) + ")]"));
+        }
+
+        // Tek tırnak içeren metinler için concat() - string birleştirmede XPath bozuluyordu
+        private static String xpathLiteral(String text) {
+            if (!text.contains("'")) {
+                return "'" + text + "'";
+            }
+            if (!text.contains("\"")) {
+                return "\"" + text + "\"";
+            }
+            return "concat('" + text.replace("'", "', \"'\", '") + "')";
+        }
+    }
+}
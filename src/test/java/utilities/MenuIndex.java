@@ -0,0 +1,174 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+public class MenuIndex {
+
+    // Sidebar ağacını (gizli ve scroll dışında kalanlar dahil) tek seferde oku
+    // ve DOM değişikliklerini izlemek için bir MutationObserver kur
+    private static final String BUILD_SCRIPT =
+            "var sidebar = document.getElementById('sidebar-menu'), token = arguments[0];" +
+            "if (!sidebar) { return null; }" +
+            "if (window.__menuIndexObserver) { window.__menuIndexObserver.disconnect(); }" +
+            "window.__menuIndexToken = token; window.__menuIndexRoot = sidebar; window.__menuIndexVersion = 0;" +
+            "window.__menuIndexObserver = new MutationObserver(function() { window.__menuIndexVersion++; });" +
+            "window.__menuIndexObserver.observe(sidebar, {childList: true, subtree: true, characterData: true});" +
+            "function path(el) {" +
+            "  var parts = [];" +
+            "  while (el && el !== sidebar) {" +
+            "    var i = 1, s = el; while ((s = s.previousElementSibling)) { i++; }" +
+            "    parts.unshift(el.tagName.toLowerCase() + ':nth-child(' + i + ')'); el = el.parentElement;" +
+            "  }" +
+            "  return '#sidebar-menu > ' + parts.join(' > ');" +
+            "}" +
+            "function label(li) {" +
+            "  var own = li.querySelector(':scope > a') || li;" +
+            "  return (own.textContent || '').replace(/\\s+/g, ' ').trim();" +
+            "}" +
+            "var menus = [];" +
+            "Array.prototype.forEach.call(sidebar.querySelectorAll('ul li'), function(li) {" +
+            "  if (li.parentElement.closest('ul.sub-menu')) { return; }" +
+            "  var subs = [];" +
+            "  Array.prototype.forEach.call(li.querySelectorAll(':scope > ul.sub-menu > li'), function(sub) {" +
+            "    var text = label(sub);" +
+            "    if (text && window.getComputedStyle(sub).display !== 'none') { subs.push({label: text, path: path(sub)}); }" +
+            "  });" +
+            "  menus.push({label: label(li), path: path(li), subs: subs});" +
+            "});" +
+            "return menus;";
+
+    // Index hala geçerli mi - sayfa yenilendiyse, sidebar değiştiyse veya içi değiştiyse false
+    private static final String VALIDATE_SCRIPT =
+            "return window.__menuIndexToken === arguments[0]" +
+            " && window.__menuIndexVersion === 0" +
+            " && window.__menuIndexRoot === document.getElementById('sidebar-menu');";
+
+    // Session (driver) başına bir index
+    private static final Map<WebDriver, MenuIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String token;
+    private final List<Entry> menus;
+
+    private static class Entry {
+        final String label;
+        final String path;
+        final List<Entry> subs;
+
+        Entry(String label, String path, List<Entry> subs) {
+            this.label = label;
+            this.path = path;
+            this.subs = subs;
+        }
+    }
+
+    private MenuIndex(String token, List<Entry> menus) {
+        this.token = token;
+        this.menus = menus;
+    }
+
+    // ========== ACCESS ==========
+
+    // Driver'ın güncel menü index'i - DOM değiştiyse yeniden okunur
+    public static MenuIndex forDriver(WebDriver driver) {
+        MenuIndex index = INDEXES.get(driver);
+        if (index != null && index.isCurrent(driver)) {
+            return index;
+        }
+        return rebuild(driver);
+    }
+
+    // Index'i zorla yeniden oku (ör. lazy-load scroll sonrası)
+    public static MenuIndex rebuild(WebDriver driver) {
+        String token = UUID.randomUUID().toString();
+        Object raw = ((JavascriptExecutor) driver).executeScript(BUILD_SCRIPT, token);
+        if (raw == null) {
+            throw new RuntimeException("Sidebar menu (#sidebar-menu) not found on page: " + driver.getCurrentUrl());
+        }
+        MenuIndex index = new MenuIndex(token, toEntries(raw));
+        INDEXES.put(driver, index);
+        TestUtils.logInfo("Menu index built with " + index.menus.size() + " menus");
+        return index;
+    }
+
+    public static void invalidate(WebDriver driver) {
+        INDEXES.remove(driver);
+    }
+
+    // Menü adını içeren ilk menünün locator'ı (yoksa null)
+    public By menu(String menuName) {
+        Entry entry = findMenu(menuName);
+        return entry != null ? By.cssSelector(entry.path) : null;
+    }
+
+    // Menünün index'teki alt menüsünün locator'ı (yoksa null)
+    public By subMenu(String menuName, int subMenuIndex) {
+        Entry entry = findMenu(menuName);
+        if (entry == null || subMenuIndex < 0 || subMenuIndex >= entry.subs.size()) {
+            return null;
+        }
+        return By.cssSelector(entry.subs.get(subMenuIndex).path);
+    }
+
+    public List<String> menuLabels() {
+        List<String> labels = new ArrayList<>();
+        for (Entry entry : menus) {
+            labels.add(entry.label);
+        }
+        return labels;
+    }
+
+    public List<String> subMenuLabels(String menuName) {
+        List<String> labels = new ArrayList<>();
+        Entry entry = findMenu(menuName);
+        if (entry != null) {
+            for (Entry sub : entry.subs) {
+                labels.add(sub.label);
+            }
+        }
+        return labels;
+    }
+
+    // ========== INTERNALS ==========
+
+    private Entry findMenu(String menuName) {
+        if (menuName == null) {
+            return null;
+        }
+        for (Entry entry : menus) {
+            if (entry.label.contains(menuName)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private boolean isCurrent(WebDriver driver) {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(VALIDATE_SCRIPT, token));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Entry> toEntries(Object raw) {
+        List<Entry> entries = new ArrayList<>();
+        for (Object item : (List<Object>) raw) {
+            Map<String, Object> map = (Map<String, Object>) item;
+            Object subs = map.get("subs");
+            entries.add(new Entry(
+                    String.valueOf(map.get("label")),
+                    String.valueOf(map.get("path")),
+                    subs != null ? toEntries(subs) : new ArrayList<>()));
+        }
+        return entries;
+    }
+}
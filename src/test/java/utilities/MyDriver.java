@@ -1,15 +1,18 @@
 package utilities;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 import java.time.Duration;
+import java.util.Map;
+import java.util.logging.Level;
 
 public class MyDriver {
     
-    private static WebDriver driver;
-    
+    // Tüm profillerde ortak argümanlar - profile özel olanlar LaunchProfile'da
     private static final String[] CHROME_OPTIONS = {
         "--remote-allow-origins=*",
         "--disable-dev-shm-usage",
@@ -18,71 +21,91 @@ public class MyDriver {
         "--disable-features=VizDisplayCompositor",
         "--disable-extensions",
         "--disable-gpu",
-        "--window-size=2560,1440",
         "--lang=tr",
         "--accept-lang=tr"
     };
     
     private static final int IMPLICIT_WAIT_SECONDS = 10;
     
+    // Global implicit wait (ProbeMode geçici olarak sıfırlar)
+    public static Duration getImplicitWait() {
+        return Duration.ofSeconds(IMPLICIT_WAIT_SECONDS);
+    }
+    
+    // Thread'e ait driver'ı havuzdan getir
     public static WebDriver getDriver() {
-        if (driver == null) {
-            driver = createChromeDriver();
-        }
-        return driver;
+        return DriverPool.lease();
     }
     
-    // Her test için yeni driver oluştur
+    // Her test için temiz driver al (havuzdan sıfırlanmış, sıcak session)
     public static WebDriver createNewDriver() {
-        // Eski driver'ı kapat
+        // Eski driver'ı havuza geri ver
         closeDriver();
-        // Yeni driver oluştur
-        driver = createChromeDriver();
-        return driver;
+        // Havuzdan temiz driver kirala
+        return DriverPool.lease();
     }
     
-    private static ChromeDriver createChromeDriver() {
-        // Force update ChromeDriver to latest version
-        WebDriverManager.chromedriver().clearDriverCache().setup();
-        ChromeOptions options = createChromeOptions();
+    // Sadece DriverPool tarafından çağrılır - komut süreleri Timings'e kaydedilir
+    static WebDriver createChromeDriver() {
+        // Binary JVM başına bir kez çözülür (target/driver-cache)
+        DriverBinaryResolver.resolve();
+        LaunchProfile profile = LaunchProfile.current();
+        ChromeOptions options = createChromeOptions(profile);
         ChromeDriver chromeDriver = new ChromeDriver(options);
         
-        configureDriver(chromeDriver);
-        return chromeDriver;
+        configureDriver(chromeDriver, profile);
+        return new EventFiringDecorator<WebDriver>(new Timings.CommandListener()).decorate(chromeDriver);
     }
     
-    private static ChromeOptions createChromeOptions() {
+    private static ChromeOptions createChromeOptions(LaunchProfile profile) {
         ChromeOptions options = new ChromeOptions();
         
         for (String option : CHROME_OPTIONS) {
             options.addArguments(option);
         }
+        options.addArguments(profile.getArguments());
+        options.setPageLoadStrategy(profile.getPageLoadStrategy());
+        
+        // Hata artifact'leri için browser console log'u
+        LoggingPreferences logs = new LoggingPreferences();
+        logs.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logs);
+        
+        if (profile.blocksImages()) {
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
         
         return options;
     }
     
-    private static void configureDriver(WebDriver driver) {
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(IMPLICIT_WAIT_SECONDS));
+    private static void configureDriver(ChromeDriver driver, LaunchProfile profile) {
+        // Headless'ta pencere boyutu argümandan gelir, maximize gereksiz
+        if (!profile.isHeadless()) {
+            driver.manage().window().maximize();
+        }
+        driver.manage().timeouts().implicitlyWait(getImplicitWait());
+        
+        // fetch/XHR sayacı her dokümanda uygulamadan önce kurulsun
+        PageReadiness.install(driver);
+        
+        // Font ve 3rd-party istekleri network seviyesinde engelle
+        if (!profile.getBlockedUrls().isEmpty()) {
+            driver.executeCdpCommand("Network.enable", Map.of());
+            driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", profile.getBlockedUrls()));
+        }
+        TestUtils.logInfo("Chrome launched with profile: " + profile.getId());
     }
     
+    // Driver'ı quit etmeden havuza geri ver
     public static void closeDriver() {
-        if (driver != null) {
-            try {
-                driver.quit();
-            } catch (Exception e) {
-                System.err.println("Error while closing driver: " + e.getMessage());
-            } finally {
-                driver = null;
-            }
-        }
+        DriverPool.release();
     }
     
     public static WebDriver getCurrentDriver() {
-        return driver;
+        return DriverPool.current();
     }
     
     public static boolean isDriverActive() {
-        return driver != null;
+        return DriverPool.current() != null;
     }
 }
@@ -0,0 +1,71 @@
+package utilities;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import java.time.Duration;
+import java.util.Map;
+
+public class PageReadiness {
+
+    // Son ağ / router aktivitesinden sonra bu kadar sessizlik olunca sayfa hazır
+    private static final long QUIET_WINDOW_MILLIS = Long.getLong("page.quiet.ms", 300);
+
+    // fetch/XHR sayacı ve SPA (Vue router pushState) aktivite zamanı - idempotent
+    static final String INSTALL_SCRIPT =
+            "(function() {" +
+            "  if (window.__netIdle) { return; }" +
+            "  var state = window.__netIdle = {inflight: 0, last: Date.now()};" +
+            "  function touch() { state.last = Date.now(); }" +
+            "  function done() { state.inflight = Math.max(0, state.inflight - 1); touch(); }" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function() {" +
+            "      state.inflight++; touch();" +
+            "      try { var p = originalFetch.apply(this, arguments); } catch (e) { done(); throw e; }" +
+            "      p.then(done, done); return p;" +
+            "    };" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function() {" +
+            "    state.inflight++; touch(); this.addEventListener('loadend', done);" +
+            "    try { return originalSend.apply(this, arguments); } catch (e) { done(); throw e; }" +
+            "  };" +
+            "  ['pushState', 'replaceState'].forEach(function(name) {" +
+            "    var original = history[name];" +
+            "    history[name] = function() { touch(); return original.apply(this, arguments); };" +
+            "  });" +
+            "  window.addEventListener('popstate', touch);" +
+            "  window.addEventListener('hashchange', touch);" +
+            "})();";
+
+    // Sayaç yoksa kur (sonraki istekler sayılır), sonra hazır mı kontrol et
+    private static final String READY_SCRIPT = INSTALL_SCRIPT +
+            "var state = window.__netIdle, quiet = arguments[0];" +
+            "return document.readyState === 'complete'" +
+            " && (typeof jQuery === 'undefined' || jQuery.active === 0)" +
+            " && state.inflight === 0" +
+            " && Date.now() - state.last >= quiet;";
+
+    private PageReadiness() {
+    }
+
+    // Her yeni dokümanda uygulama script'lerinden önce sayacı kur (ilk istekler de sayılsın)
+    public static void install(WebDriver driver) {
+        if (driver instanceof HasCdp) {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", INSTALL_SCRIPT));
+        }
+    }
+
+    // Doküman yüklendi, bekleyen fetch/XHR yok ve sessiz pencere doldu - timeout'ta false
+    public static boolean awaitReady(WebDriver driver, int timeoutSeconds) {
+        try {
+            WaitEngine.until(driver, d -> (Boolean) ((JavascriptExecutor) d).executeScript(READY_SCRIPT, QUIET_WINDOW_MILLIS),
+                    Duration.ofSeconds(timeoutSeconds));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Scoped zero implicit-wait mode for existence checks:
+ * try (ProbeMode probe = ProbeMode.enter(driver)) { ... }
+ * Nested scopes on the same thread only switch the timeout once.
+ */
+public class ProbeMode implements AutoCloseable {
+
+    // Driver'lar thread'e bağlı (DriverPool), derinlik de thread başına tutulur
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final WebDriver driver;
+    private boolean closed;
+
+    private ProbeMode(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    // Implicit wait'i sıfırla - negatif kontroller milisaniyede döner
+    public static ProbeMode enter(WebDriver driver) {
+        int[] depth = DEPTH.get();
+        if (depth[0] == 0) {
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        }
+        depth[0]++;
+        return new ProbeMode(driver);
+    }
+
+    // Element var mı - beklemeden
+    public static boolean exists(WebDriver driver, By locator) {
+        try (ProbeMode probe = enter(driver)) {
+            return !driver.findElements(locator).isEmpty();
+        }
+    }
+
+    // İlk eşleşen element - beklemeden (yoksa null)
+    public static WebElement findFirst(WebDriver driver, By locator) {
+        try (ProbeMode probe = enter(driver)) {
+            List<WebElement> elements = driver.findElements(locator);
+            return elements.isEmpty() ? null : elements.get(0);
+        }
+    }
+
+    // Implicit wait'i eski haline getir
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        int[] depth = DEPTH.get();
+        depth[0]--;
+        if (depth[0] == 0) {
+            try {
+                driver.manage().timeouts().implicitlyWait(MyDriver.getImplicitWait());
+            } catch (Exception e) {
+                TestUtils.logWarning("Implicit wait could not be restored: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package utilities;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Local retry for idempotent UI actions (find + click / type).
+ * Only transient failures (stale element, intercepted click) are retried;
+ * timeouts and everything else fail immediately as before.
+ */
+public class Retry {
+
+    public enum Failure {
+        // DOM yeniden render edildi - element tekrar bulunursa geçer
+        STALE,
+        // Overlay / animasyon tıklamayı yuttu - kısa beklemeden sonra geçer
+        INTERCEPTED,
+        // Bekleme süresi zaten harcandı - tekrar denemek süreyi katlar
+        TIMEOUT,
+        FATAL
+    }
+
+    // Bir aksiyon için toplam deneme sayısı (ilk deneme dahil)
+    private static final int MAX_ATTEMPTS = Integer.getInteger("retry.max.attempts", 3);
+
+    // Senaryo başına toplam retry - sistematik bir sorun retry'larla maskelenmesin
+    private static final int SCENARIO_BUDGET = Integer.getInteger("retry.scenario.budget", 10);
+
+    private static final long BACKOFF_MILLIS = 100;
+
+    private static final ThreadLocal<int[]> USED = ThreadLocal.withInitial(() -> new int[1]);
+
+    // aksiyon -> sayaç adı (attempts, retried.STALE, recovered, exhausted...) -> değer
+    private static final Map<String, Map<String, LongAdder>> STATS = new ConcurrentHashMap<>();
+
+    private Retry() {
+    }
+
+    // Senaryo başında retry bütçesini sıfırla
+    public static void startScenario() {
+        USED.get()[0] = 0;
+    }
+
+    public static Failure classify(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StaleElementReferenceException) {
+                return Failure.STALE;
+            }
+            if (cause instanceof ElementClickInterceptedException || cause instanceof ElementNotInteractableException) {
+                return Failure.INTERCEPTED;
+            }
+            if (cause instanceof TimeoutException) {
+                return Failure.TIMEOUT;
+            }
+        }
+        return Failure.FATAL;
+    }
+
+    public static void run(String action, Runnable attempt) {
+        run(action, () -> {
+            attempt.run();
+            return null;
+        });
+    }
+
+    // attempt her denemede elementi yeniden bulmalı (stale referans tekrar kullanılmasın)
+    public static <T> T run(String action, Supplier<T> attempt) {
+        count(action, "calls");
+        int attemptNumber = 1;
+        while (true) {
+            try {
+                T result = attempt.get();
+                if (attemptNumber > 1) {
+                    count(action, "recovered");
+                }
+                return result;
+            } catch (RuntimeException e) {
+                Failure failure = classify(e);
+                count(action, "failed." + failure);
+                if (failure != Failure.STALE && failure != Failure.INTERCEPTED) {
+                    throw e;
+                }
+
+                int[] used = USED.get();
+                if (attemptNumber >= MAX_ATTEMPTS || used[0] >= SCENARIO_BUDGET) {
+                    count(action, "exhausted");
+                    throw e;
+                }
+                used[0]++;
+                count(action, "retried." + failure);
+                TestUtils.logWarning("Retrying " + action + " after " + failure + " (attempt " + (attemptNumber + 1)
+                        + "/" + MAX_ATTEMPTS + "): " + firstLine(e.getMessage()));
+
+                // Intercepted: overlay/animasyonun bitmesine zaman tanı, stale: direkt tekrar bul
+                if (failure == Failure.INTERCEPTED) {
+                    WaitEngine.pause(Duration.ofMillis(BACKOFF_MILLIS * attemptNumber));
+                }
+                attemptNumber++;
+            }
+        }
+    }
+
+    // Latency raporundaki "retries" bölümü
+    static Map<String, Object> summary() {
+        Map<String, Object> result = new TreeMap<>();
+        for (Map.Entry<String, Map<String, LongAdder>> action : STATS.entrySet()) {
+            Map<String, Object> counters = new TreeMap<>();
+            for (Map.Entry<String, LongAdder> counter : action.getValue().entrySet()) {
+                counters.put(counter.getKey(), counter.getValue().sum());
+            }
+            result.put(action.getKey(), counters);
+        }
+        return result;
+    }
+
+    private static void count(String action, String counter) {
+        STATS.computeIfAbsent(action, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(counter, k -> new LongAdder())
+                .increment();
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
@@ -0,0 +1,165 @@
+package utilities;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SessionCache {
+
+    // -Dsession.cache=false ile her senaryo tam login akışını kullanır
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("session.cache", "true"));
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(Long.getLong("session.cache.minutes", 30));
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 10;
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var storage = window[arguments[0]], result = {};" +
+            "for (var i = 0; i < storage.length; i++) { var k = storage.key(i); result[k] = storage.getItem(k); }" +
+            "return result;";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var storage = window[arguments[0]], values = arguments[1];" +
+            "for (var k in values) { storage.setItem(k, values[k]); }";
+
+    private static final Map<String, Snapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private SessionCache() {
+    }
+
+    // Login sonrası oturum durumu
+    private static class Snapshot {
+        final Set<Cookie> cookies;
+        final Map<String, String> localStorage;
+        final Map<String, String> sessionStorage;
+        final String landingUrl;
+        final long capturedAt = System.currentTimeMillis();
+
+        Snapshot(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage, String landingUrl) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+            this.landingUrl = landingUrl;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - capturedAt > MAX_AGE.toMillis();
+        }
+    }
+
+    // Cache anahtarı - aynı kullanıcı ve hesap, aynı worker thread içinde aynı oturumu paylaşır
+    // Paralel senaryolar snapshot paylaşmaz: bir senaryonun logout'u sunucu oturumunu sadece kendi thread'i için bitirir
+    public static String key(String pageUrl, String email, String accountIndex) {
+        return pageUrl + "|" + email + "|" + accountIndex + "|" + Thread.currentThread().getId();
+    }
+
+    // ========== CAPTURE / RESTORE ==========
+
+    // Başarılı login sonrası cookie ve storage'ı kaydet
+    public static void capture(WebDriver driver, String key) {
+        if (!ENABLED) {
+            return;
+        }
+        // Login sayfasının cookie'leri kaydedilirse her restore tam login akışına düşer
+        if (!isLoggedIn(driver)) {
+            TestUtils.logWarning("Login session not captured - dashboard not reached: " + driver.getCurrentUrl());
+            return;
+        }
+        try {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            Snapshot snapshot = new Snapshot(
+                    driver.manage().getCookies(),
+                    readStorage(js, "localStorage"),
+                    readStorage(js, "sessionStorage"),
+                    driver.getCurrentUrl());
+            SNAPSHOTS.put(key, snapshot);
+            TestUtils.logInfo("Login session captured (" + snapshot.cookies.size() + " cookies)");
+        } catch (Exception e) {
+            TestUtils.logWarning("Login session could not be captured: " + e.getMessage());
+        }
+    }
+
+    // Kayıtlı oturumu driver'a yükle - geçersizse false döner, tam login akışı kullanılmalı
+    public static boolean restore(WebDriver driver, String key) {
+        if (!ENABLED) {
+            return false;
+        }
+        Snapshot snapshot = SNAPSHOTS.get(key);
+        if (snapshot == null) {
+            return false;
+        }
+        if (snapshot.isExpired()) {
+            SNAPSHOTS.remove(key, snapshot);
+            return false;
+        }
+
+        try {
+            // Cookie ve storage yazmak için aynı origin'de hafif bir dokümana git
+            URI landing = URI.create(snapshot.landingUrl);
+            driver.get(landing.getScheme() + "://" + landing.getAuthority() + "/favicon.ico");
+
+            for (Cookie cookie : snapshot.cookies) {
+                try {
+                    driver.manage().addCookie(cookie);
+                } catch (Exception e) {
+                    TestUtils.logInfo("Cookie skipped during restore: " + cookie.getName());
+                }
+            }
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            js.executeScript(WRITE_STORAGE_SCRIPT, "localStorage", snapshot.localStorage);
+            js.executeScript(WRITE_STORAGE_SCRIPT, "sessionStorage", snapshot.sessionStorage);
+
+            driver.get(snapshot.landingUrl);
+            if (isLoggedIn(driver)) {
+                TestUtils.logSuccess("Login session restored from cache: " + driver.getCurrentUrl());
+                return true;
+            }
+        } catch (Exception e) {
+            TestUtils.logWarning("Login session restore failed: " + e.getMessage());
+        }
+
+        // Geçersiz oturum - cache'den sil ve temiz başla
+        SNAPSHOTS.remove(key, snapshot);
+        driver.manage().deleteAllCookies();
+        TestUtils.logInfo("Cached login session invalid, falling back to full login");
+        return false;
+    }
+
+    // Logout sonrası oturum artık geçerli değil
+    public static void invalidate(String key) {
+        if (key != null && SNAPSHOTS.remove(key) != null) {
+            TestUtils.logInfo("Cached login session invalidated");
+        }
+    }
+
+    // ========== INTERNALS ==========
+
+    // Dashboard sidebar'ı görünürse oturum geçerli, login sayfasına dönerse geçersiz
+    private static boolean isLoggedIn(WebDriver driver) {
+        try {
+            String state = WaitEngine.until(driver, d -> {
+                if (d.getCurrentUrl().contains("/account/login")) {
+                    return "login";
+                }
+                return d.getCurrentUrl().contains("dashboard") && !d.findElements(Locators.Sidebar.MENU.primary()).isEmpty()
+                        ? "dashboard" : null;
+            }, VALIDATION_TIMEOUT_SECONDS);
+            return "dashboard".equals(state);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> readStorage(JavascriptExecutor js, String storageName) {
+        Object result = js.executeScript(READ_STORAGE_SCRIPT, storageName);
+        return result instanceof Map ? new HashMap<>((Map<String, String>) result) : new HashMap<>();
+    }
+}
@@ -0,0 +1,62 @@
+package utilities;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that records the scenario durations of this run for the next shard plan.
+ * They are written to shard.history.dir/next when the run finishes, never to the snapshot
+ * ShardPlanner reads, so all shards of a run plan from the same history.
+ * Usage: plugin = {"utilities.ShardHistoryPlugin"}
+ */
+public class ShardHistoryPlugin implements ConcurrentEventListener {
+
+    // uri:line -> senaryo süresi (hook'lar ve background dahil)
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> {
+            TestCase testCase = event.getTestCase();
+            durations.put(ShardPlanner.key(testCase.getUri().toString(), testCase.getLocation().getLine()),
+                    event.getResult().getDuration().toNanos());
+        });
+        publisher.registerHandlerFor(TestRunFinished.class, event -> write());
+    }
+
+    // Her shard kendi dosyasını yazar - CI hepsini sonraki koşumun shard.history.dir'ine kopyalar
+    private void write() {
+        if (durations.isEmpty()) {
+            return;
+        }
+        Path target = ShardPlanner.nextHistoryFile();
+        Properties properties = new Properties();
+        durations.forEach((key, nanos) -> properties.setProperty(key, Long.toString(nanos)));
+        try {
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    properties.store(out, "Scenario durations in nanoseconds");
+                }
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            TestUtils.logInfo("Shard history written: " + target);
+        } catch (IOException e) {
+            TestUtils.logWarning("Shard history could not be written to " + target + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package utilities;
+
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits the scenario list across JVMs/machines: -Dshard.index=1..N -Dshard.total=N.
+ * Scenarios are bin-packed by their last recorded duration from the history snapshot
+ * (shard.history.dir), so every shard given the same snapshot computes the same plan
+ * and keeps only its own bin. ShardHistoryPlugin writes new durations to the next/
+ * subdirectory, which is never read while shards of the same run are still planning.
+ */
+public class ShardPlanner {
+
+    private static final int SHARD_INDEX = Integer.getInteger("shard.index", 1);
+    private static final int SHARD_TOTAL = Integer.getInteger("shard.total", 1);
+
+    // Önceki koşumların süre snapshot'ı - koşum sırasında hiçbir plugin buraya yazmaz
+    private static final Path HISTORY_DIR = Paths.get(System.getProperty("shard.history.dir", "target/shard-history"));
+
+    // Bu koşumun süreleri - sonraki koşumun snapshot'ı olarak yayınlanır
+    private static final String NEXT_DIR = "next";
+
+    // Hiç süre kaydı yoksa senaryo başına tahmin
+    private static final long DEFAULT_DURATION_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private ShardPlanner() {
+    }
+
+    // Runner'ın scenarios() sonucundan bu shard'a düşen satırları döndür
+    public static Object[][] select(Object[][] scenarios) {
+        if (SHARD_TOTAL <= 1) {
+            return scenarios;
+        }
+        if (SHARD_INDEX < 1 || SHARD_INDEX > SHARD_TOTAL) {
+            throw new IllegalArgumentException("shard.index must be between 1 and " + SHARD_TOTAL + ", got " + SHARD_INDEX);
+        }
+
+        Map<String, Long> history = loadDurations();
+        long fallback = median(history);
+
+        List<Entry> entries = new ArrayList<>();
+        int known = 0;
+        for (Object[] row : scenarios) {
+            Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+            String key = key(pickle.getUri().toString(), pickle.getLine());
+            Long duration = history.get(key);
+            if (duration != null) {
+                known++;
+            }
+            entries.add(new Entry(row, key, duration != null ? duration : fallback));
+        }
+
+        // LPT: en uzun senaryo en az yüklü shard'a - eşitlikte key sırası (her JVM aynı planı üretsin)
+        entries.sort(Comparator.comparingLong((Entry e) -> e.duration).reversed().thenComparing(e -> e.key));
+        long[] load = new long[SHARD_TOTAL];
+        List<Object[]> selected = new ArrayList<>();
+        for (Entry entry : entries) {
+            int shard = 0;
+            for (int i = 1; i < load.length; i++) {
+                if (load[i] < load[shard]) {
+                    shard = i;
+                }
+            }
+            load[shard] += entry.duration;
+            if (shard == SHARD_INDEX - 1) {
+                selected.add(entry.row);
+            }
+        }
+
+        // Shard'lar aynı snapshot'ı görmediyse planlar çakışır - parmak izi log'dan karşılaştırılabilir
+        TestUtils.logInfo("Shard " + SHARD_INDEX + "/" + SHARD_TOTAL + ": " + selected.size() + " of " + scenarios.length
+                + " scenarios, estimated " + TimeUnit.NANOSECONDS.toSeconds(load[SHARD_INDEX - 1]) + "s"
+                + " (recorded durations for " + known + "/" + scenarios.length
+                + ", history " + fingerprint(history) + ")");
+        return selected.toArray(new Object[0][]);
+    }
+
+    // ========== DURATION HISTORY ==========
+
+    // uri:line -> senaryo süresi (hook'lar ve background dahil)
+    private static Map<String, Long> loadDurations() {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.isDirectory(HISTORY_DIR)) {
+            return durations;
+        }
+
+        // Dosya adına göre sırala - her makinede aynı sıra; aynı senaryo için sonraki dosya geçerli
+        List<Path> snapshots = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(HISTORY_DIR, "*.properties")) {
+            stream.forEach(snapshots::add);
+        } catch (IOException e) {
+            TestUtils.logWarning("Shard history could not be listed: " + e.getMessage());
+            return durations;
+        }
+        snapshots.sort(Comparator.comparing(path -> path.getFileName().toString()));
+
+        for (Path snapshot : snapshots) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(snapshot)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                TestUtils.logWarning("Shard history skipped " + snapshot + ": " + e.getMessage());
+                continue;
+            }
+            for (String key : properties.stringPropertyNames()) {
+                try {
+                    durations.put(key, Long.parseLong(properties.getProperty(key)));
+                } catch (NumberFormatException e) {
+                    TestUtils.logWarning("Shard history skipped " + key + " in " + snapshot);
+                }
+            }
+        }
+        return durations;
+    }
+
+    // ShardHistoryPlugin'in bu koşumun sürelerini yazdığı dosya
+    static Path nextHistoryFile() {
+        return HISTORY_DIR.resolve(NEXT_DIR).resolve("durations-" + SHARD_INDEX + "-of-" + SHARD_TOTAL + ".properties");
+    }
+
+    // Yüklenen geçmişin kısa özeti - sıralı key=değer listesinin hash'i
+    private static String fingerprint(Map<String, Long> history) {
+        return Integer.toHexString(new TreeMap<>(history).toString().hashCode());
+    }
+
+    // ========== INTERNALS ==========
+
+    // Pickle uri'si mutlak (file:/...), json'daki göreli (file:src/...) - ikisi de proje köküne göre normalize edilir
+    static String key(String uri, int line) {
+        String path = uri;
+        if (path.startsWith("file:")) {
+            path = path.startsWith("file:/") ? Paths.get(URI.create(path)).toString() : path.substring("file:".length());
+        }
+        Path file = Paths.get(path);
+        if (file.isAbsolute()) {
+            file = Paths.get("").toAbsolutePath().relativize(file);
+        }
+        return file.toString().replace('\\', '/') + ":" + line;
+    }
+
+    // Kaydı olmayan (yeni) senaryolar için bilinen sürelerin medyanı
+    private static long median(Map<String, Long> durations) {
+        if (durations.isEmpty()) {
+            return DEFAULT_DURATION_NANOS;
+        }
+        List<Long> values = new ArrayList<>(durations.values());
+        values.sort(null);
+        return values.get(values.size() / 2);
+    }
+
+    private static final class Entry {
+        final Object[] row;
+        final String key;
+        final long duration;
+
+        Entry(Object[] row, String key, long duration) {
+            this.row = row;
+            this.key = key;
+            this.duration = duration;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package utilities;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Scenario-scoped, thread-confined soft assertions (replaces TestNG SoftAssert).
+ * Every result is appended to target/soft-assertions/<pid>.jsonl as it happens,
+ * only a capped number of failure messages is kept for the final assertAll.
+ */
+public class SoftAssertions {
+
+    // assertAll mesajında tutulacak maksimum hata sayısı - fazlası "and N more"
+    private static final int MAX_RETAINED = Integer.getInteger("softassert.max.messages", 20);
+
+    // Fork / shard başına ayrı dosya - JVM ölse bile o ana kadarki satırlar diskte
+    private static final Path RESULTS_FILE = Paths.get("target", "soft-assertions",
+            ProcessHandle.current().pid() + ".jsonl");
+
+    private static final ThreadLocal<SoftAssertions> CURRENT = new ThreadLocal<>();
+    private static BufferedWriter writer;
+
+    private final String scenario;
+    private final Thread owner = Thread.currentThread();
+    private final List<String> retained = new ArrayList<>();
+    private int assertions;
+    private int failures;
+
+    private SoftAssertions(String scenario) {
+        this.scenario = scenario;
+    }
+
+    // Senaryo başında - bu thread'in önceki (bitmemiş) collector'ı atılır
+    public static SoftAssertions start(String scenario) {
+        SoftAssertions assertions = new SoftAssertions(scenario);
+        CURRENT.set(assertions);
+        return assertions;
+    }
+
+    // Bu thread'in aktif collector'ı
+    public static SoftAssertions current() {
+        SoftAssertions assertions = CURRENT.get();
+        if (assertions == null) {
+            throw new IllegalStateException("No soft assertion scope on thread " + Thread.currentThread().getName());
+        }
+        return assertions;
+    }
+
+    // ========== ASSERTIONS ==========
+
+    public void assertTrue(boolean condition, String message) {
+        record(condition, message, null);
+    }
+
+    public void assertFalse(boolean condition, String message) {
+        record(!condition, message, null);
+    }
+
+    public void assertEquals(Object actual, Object expected, String message) {
+        boolean passed = Objects.equals(actual, expected);
+        record(passed, message, passed ? null : "expected [" + expected + "] but found [" + actual + "]");
+    }
+
+    public void fail(String message) {
+        record(false, message, null);
+    }
+
+    // Senaryo sonu - hata varsa tek AssertionError, scope kapanır
+    public void assertAll() {
+        checkOwner();
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+        if (failures == 0) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("The following asserts failed (" + failures + " of " + assertions + "):");
+        for (String failure : retained) {
+            message.append("\n\t").append(failure);
+        }
+        if (failures > retained.size()) {
+            message.append("\n\t... and ").append(failures - retained.size()).append(" more (see ").append(RESULTS_FILE).append(")");
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    public int getFailureCount() {
+        return failures;
+    }
+
+    // ========== INTERNALS ==========
+
+    private void record(boolean passed, String message, String detail) {
+        checkOwner();
+        assertions++;
+        String text = detail != null ? message + " - " + detail : message;
+        if (!passed) {
+            failures++;
+            if (retained.size() < MAX_RETAINED) {
+                retained.add(text);
+            }
+        }
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("ts", Instant.now().toString());
+        line.put("thread", owner.getName());
+        line.put("scenario", scenario);
+        line.put("passed", passed);
+        line.put("message", text);
+        StringBuilder json = new StringBuilder();
+        try (JsonOutput output = new Json().newOutput(json)) {
+            output.setPrettyPrint(false).write(line);
+        }
+        append(json.toString());
+    }
+
+    // Senaryo state'i thread'e bağlı - başka thread'den assert hatalı kullanım
+    private void checkOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("Soft assertions of scenario '" + scenario + "' used from thread "
+                    + Thread.currentThread().getName() + ", owned by " + owner.getName());
+        }
+    }
+
+    // Satır satır yaz + flush (tam satırlar - yarım JSON kalmaz)
+    private static synchronized void append(String line) {
+        try {
+            if (writer == null) {
+                Files.createDirectories(RESULTS_FILE.getParent());
+                writer = Files.newBufferedWriter(RESULTS_FILE, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Soft assertion result could not be written: " + e.getMessage());
+        }
+    }
+}
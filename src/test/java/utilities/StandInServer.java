@@ -0,0 +1,352 @@
+package utilities;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded stand-in for the ATS web app (-Dstandin=true).
+ * Serves the login flow, account chooser, dashboard with #sidebar-menu and
+ * sub-pages using the same element ids BaseTest relies on, with optional
+ * injected latency (-Dstandin.latency.ms) for reproducible harness benchmarks.
+ */
+public class StandInServer {
+
+    private static final boolean ENABLED = Boolean.getBoolean("standin");
+
+    // Her istekten önce eklenen gecikme (production latency simülasyonu)
+    private static final long LATENCY_MILLIS = Long.getLong("standin.latency.ms", 0);
+
+    // 0 = boş port
+    private static final int PORT = Integer.getInteger("standin.port", 0);
+
+    private static final String SESSION_COOKIE = "standin_session";
+    private static final String LOGIN_PATH = "/dashboard/account/login";
+
+    // Menü -> alt menüler (etiket, path) - "Aday Takip Sistemi" index 6 = Ayarlar (feature'daki senaryo)
+    private static final Map<String, List<String[]>> MENUS = new LinkedHashMap<>();
+
+    static {
+        MENUS.put("Aday Takip Sistemi", Arrays.asList(
+                new String[] {"İlanlar", "/dashboard/ats/ilanlar"},
+                new String[] {"Aday Havuzu", "/dashboard/ats/cv-havuzu"},
+                new String[] {"İşe Alım Talepleri", "/dashboard/ats/ise-alim-talepleri"},
+                new String[] {"Onay Süreçleri", "/dashboard/ats/onay-surecleri"},
+                new String[] {"Sorumluluk Yönetimi", "/dashboard/ats/sorumluluk-yonetimi"},
+                new String[] {"Raporlar", "/dashboard/ats/raporlar"},
+                new String[] {"Ayarlar", "/dashboard/ats/ayarlar"}));
+        MENUS.put("Personel Yönetimi", Arrays.asList(
+                new String[] {"Çalışanlar", "/dashboard/personel/calisanlar"},
+                new String[] {"Organizasyon Şeması", "/dashboard/personel/organizasyon"}));
+        MENUS.put("Ayarlar", Arrays.asList(
+                new String[] {"Genel Ayarlar", "/dashboard/settings/genel"},
+                new String[] {"Kullanıcılar", "/dashboard/settings/kullanicilar"}));
+    }
+
+    private static final String LOGIN_PAGE =
+            "<!DOCTYPE html><html lang='tr'><head><meta charset='utf-8'><title>Teamso - Giriş</title></head><body>" +
+            "<h1>Hoş Geldin</h1><div id='app'></div>" +
+            "<script>" +
+            "var app = document.getElementById('app');" +
+            "function emailStep() {" +
+            "  app.innerHTML = \"<form onsubmit='return false'><input id='emailInputOnLoginPage' type='email' placeholder='E-posta'>" +
+            "<button id='login-button' type='submit'>Devam</button></form>\";" +
+            "  document.getElementById('login-button').onclick = function() {" +
+            "    var email = document.getElementById('emailInputOnLoginPage').value;" +
+            "    fetch('/api/accounts?email=' + encodeURIComponent(email)).then(function(r) { return r.json(); }).then(function(accounts) {" +
+            "      history.pushState({}, '', '" + LOGIN_PATH + "/accounts'); accountStep(email, accounts);" +
+            "    });" +
+            "  };" +
+            "}" +
+            "function accountStep(email, accounts) {" +
+            "  app.innerHTML = \"<input type='search' placeholder='Hesap ara...'><div id='accounts'></div>\";" +
+            "  var search = app.querySelector('input'), list = document.getElementById('accounts');" +
+            "  function render() {" +
+            "    var query = search.value.toLowerCase(); list.innerHTML = '';" +
+            "    accounts.filter(function(a) { return a.toLowerCase().indexOf(query) >= 0; }).forEach(function(account) {" +
+            "      var button = document.createElement('button');" +
+            "      button.id = 'accountSelectButtonOnLoginPage'; button.type = 'button'; button.textContent = account;" +
+            "      button.onclick = function() { history.pushState({}, '', '" + LOGIN_PATH + "/password'); passwordStep(email, account); };" +
+            "      list.appendChild(button);" +
+            "    });" +
+            "  }" +
+            "  search.oninput = render; render();" +
+            "}" +
+            "function passwordStep(email, account) {" +
+            "  app.innerHTML = \"<form onsubmit='return false'><input id='passwordInputOnLoginPage' type='password'>" +
+            "<button id='loginButtonInPasswordCheckInLoginPage' type='submit'>Giriş Yap</button></form>\";" +
+            "  document.getElementById('loginButtonInPasswordCheckInLoginPage').onclick = function() {" +
+            "    fetch('/api/login', {method: 'POST', headers: {'Content-Type': 'application/json'}," +
+            "      body: JSON.stringify({email: email, account: account})}).then(function() { location.href = '/dashboard'; });" +
+            "  };" +
+            "}" +
+            "emailStep();" +
+            "</script></body></html>";
+
+    private static final String DASHBOARD_SCRIPT =
+            "<script>" +
+            "var content = document.getElementById('content');" +
+            "var toggle = document.getElementById('__BVID__31__BV_toggle_'), dropdown = toggle.nextElementSibling;" +
+            "toggle.onclick = function() { dropdown.style.display = dropdown.style.display === 'block' ? 'none' : 'block'; };" +
+            "document.querySelectorAll('#sidebar-menu > ul > li > a').forEach(function(link) {" +
+            "  link.onclick = function(e) { e.preventDefault(); var sub = link.nextElementSibling; if (sub) { sub.classList.toggle('mm-show'); } };" +
+            "});" +
+            "document.querySelectorAll('#sidebar-menu .sub-menu a').forEach(function(link) {" +
+            "  link.onclick = function(e) {" +
+            "    e.preventDefault(); var path = link.getAttribute('href');" +
+            "    fetch('/api/page?path=' + encodeURIComponent(path)).then(function(r) { return r.json(); }).then(function(page) {" +
+            "      history.pushState({}, '', path); document.title = page.title; content.innerHTML = '<h2>' + page.title + '</h2>';" +
+            "    });" +
+            "  };" +
+            "});" +
+            "</script>";
+
+    private static final Set<String> SESSIONS = ConcurrentHashMap.newKeySet();
+
+    // /api/ats/<collection>/<id> -> entity (TestDataFactory seed / cleanup)
+    private static final Map<String, Map<String, Object>> ENTITIES = new ConcurrentHashMap<>();
+    private static final AtomicLong NEXT_ID = new AtomicLong(1000);
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    private StandInServer() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Stand-in açıksa URL'in path'ini stand-in'e yönlendir (ilk çağrıda server başlar)
+    public static String rewrite(String url) {
+        if (!ENABLED) {
+            return url;
+        }
+        URI uri = URI.create(url);
+        String query = uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "";
+        return baseUrl() + (uri.getRawPath() != null ? uri.getRawPath() : "") + query;
+    }
+
+    public static synchronized String baseUrl() {
+        if (server == null) {
+            start();
+        }
+        return baseUrl;
+    }
+
+    private static void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), PORT), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Stand-in server could not be started", e);
+        }
+        // Paralel senaryolarda istekler birbirini beklemesin
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "standin-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", StandInServer::handle);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0), "standin-stop"));
+        TestUtils.logInfo("Stand-in ATS app started at " + baseUrl + " (latency " + LATENCY_MILLIS + " ms)");
+    }
+
+    // ========== ROUTING ==========
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (LATENCY_MILLIS > 0) {
+                TimeUnit.MILLISECONDS.sleep(LATENCY_MILLIS);
+            }
+            String path = exchange.getRequestURI().getPath();
+
+            if (path.equals("/favicon.ico")) {
+                send(exchange, 204, null, null);
+            } else if (path.startsWith(LOGIN_PATH)) {
+                send(exchange, 200, "text/html", LOGIN_PAGE);
+            } else if (path.equals("/api/accounts")) {
+                sendJson(exchange, accounts(param(exchange, "email")));
+            } else if (path.equals("/api/login") && "POST".equals(exchange.getRequestMethod())) {
+                exchange.getRequestBody().readAllBytes();
+                String session = UUID.randomUUID().toString();
+                SESSIONS.add(session);
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + session + "; Path=/");
+                sendJson(exchange, Map.of("ok", true));
+            } else if (path.startsWith("/api/ats/")) {
+                handleEntity(exchange, path);
+            } else if (path.equals("/api/page")) {
+                sendJson(exchange, Map.of("title", title(param(exchange, "path"))));
+            } else if (path.equals("/logout")) {
+                String session = session(exchange);
+                if (session != null) {
+                    SESSIONS.remove(session);
+                }
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+                redirect(exchange, LOGIN_PATH);
+            } else if (path.equals("/dashboard") || path.startsWith("/dashboard/")) {
+                if (session(exchange) == null) {
+                    redirect(exchange, LOGIN_PATH);
+                } else {
+                    send(exchange, 200, "text/html", dashboard(path));
+                }
+            } else if (path.equals("/")) {
+                redirect(exchange, "/dashboard");
+            } else {
+                send(exchange, 404, "text/plain", "Not found: " + path);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, 503, "text/plain", "Interrupted");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // POST collection -> {id, ...}, GET collection -> liste, DELETE collection/id
+    private static void handleEntity(HttpExchange exchange, String path) throws IOException {
+        if (session(exchange) == null) {
+            send(exchange, 401, "application/json", "{\"error\":\"unauthorized\"}");
+            return;
+        }
+        String method = exchange.getRequestMethod();
+        if ("POST".equals(method)) {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Map<String, Object> entity = new LinkedHashMap<>(new Json().toType(body.isEmpty() ? "{}" : body, Json.MAP_TYPE));
+            long id = NEXT_ID.incrementAndGet();
+            entity.put("id", id);
+            ENTITIES.put(path + "/" + id, entity);
+            sendJson(exchange, entity);
+        } else if ("DELETE".equals(method)) {
+            send(exchange, ENTITIES.remove(path) != null ? 204 : 404, null, null);
+        } else {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (Map.Entry<String, Map<String, Object>> entry : ENTITIES.entrySet()) {
+                if (entry.getKey().startsWith(path + "/")) {
+                    items.add(entry.getValue());
+                }
+            }
+            sendJson(exchange, items);
+        }
+    }
+
+    // ========== PAGES ==========
+
+    private static String dashboard(String path) {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html><html lang='tr'><head><meta charset='utf-8'><title>").append(title(path)).append("</title>")
+                .append("<style>.sub-menu.mm-collapse{display:none}.sub-menu.mm-collapse.mm-show{display:block}")
+                .append(".dropdown-menu{display:none}#sidebar-menu{height:400px;overflow:auto}</style></head><body>")
+                .append("<header><div class='dropdown b-dropdown'>")
+                .append("<button id='__BVID__31__BV_toggle_' class='btn dropdown-toggle' type='button'>Kullanıcı</button>")
+                .append("<ul class='dropdown-menu'>")
+                .append("<li><a class='dropdown-item' href='#'>Profil</a></li>")
+                .append("<li><a class='dropdown-item' href='#'>Hesap Değiştir</a></li>")
+                .append("<li><a class='dropdown-item' href='#'>Yardım</a></li>")
+                .append("<li><a class='dropdown-item' href='/logout'>Çıkış Yap</a></li>")
+                .append("</ul></div></header>")
+                .append("<div id='sidebar-menu'><ul class='metismenu'>");
+        for (Map.Entry<String, List<String[]>> menu : MENUS.entrySet()) {
+            html.append("<li><a href='#' class='has-arrow'>").append(menu.getKey()).append("</a><ul class='sub-menu mm-collapse'>");
+            for (String[] subMenu : menu.getValue()) {
+                html.append("<li><a href='").append(subMenu[1]).append("'>").append(subMenu[0]).append("</a></li>");
+            }
+            html.append("</ul></li>");
+        }
+        html.append("</ul></div><main id='content'><h2>").append(title(path)).append("</h2></main>")
+                .append(DASHBOARD_SCRIPT)
+                .append("</body></html>");
+        return html.toString();
+    }
+
+    private static String title(String path) {
+        for (List<String[]> subMenus : MENUS.values()) {
+            for (String[] subMenu : subMenus) {
+                if (subMenu[1].equals(path)) {
+                    return subMenu[0];
+                }
+            }
+        }
+        return "Dashboard";
+    }
+
+    // E-postadan türetilen hesaplar: kadir.mogul@... -> prodkadir, prodkadir-demo, testkadir
+    private static List<String> accounts(String email) {
+        String name = email == null ? "" : email.split("[.@]")[0].toLowerCase();
+        return new ArrayList<>(Arrays.asList("prod" + name, "prod" + name + "-demo", "test" + name));
+    }
+
+    // ========== HTTP HELPERS ==========
+
+    private static String session(HttpExchange exchange) {
+        List<String> cookies = exchange.getRequestHeaders().get("Cookie");
+        if (cookies == null) {
+            return null;
+        }
+        for (String header : cookies) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && pair[0].equals(SESSION_COOKIE) && SESSIONS.contains(pair[1])) {
+                    return pair[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String param(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            String[] parts = pair.split("=", 2);
+            if (parts[0].equals(name)) {
+                return parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "";
+            }
+        }
+        return null;
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        send(exchange, 302, null, null);
+    }
+
+    private static void sendJson(HttpExchange exchange, Object body) throws IOException {
+        send(exchange, 200, "application/json", new Json().toJson(body));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType + "; charset=utf-8");
+        exchange.getResponseHeaders().add("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package utilities;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Creates test entities (job postings, recruitment requests, candidates...)
+ * through the application's HTTP endpoints with the logged-in browser session,
+ * instead of filling the UI forms. Created entities are pooled per account as
+ * reusable fixtures and deleted in bulk by the runners' suite teardown, with a
+ * fresh login per account (scenario sessions may have logged out by then).
+ */
+public class TestDataFactory {
+
+    // Entity tipi -> collection endpoint (-Dtestdata.endpoint.<tip>=/api/... ile override)
+    private static final Map<String, String> DEFAULT_ENDPOINTS = Map.of(
+            "recruitmentRequest", "/api/ats/recruitment-requests",
+            "jobPosting", "/api/ats/job-postings",
+            "candidate", "/api/ats/candidates");
+
+    // Token localStorage'da tutuluyorsa Authorization header'ı için key
+    private static final String AUTH_TOKEN_KEY = System.getProperty("testdata.auth.token.key");
+
+    private static final boolean CLEANUP = Boolean.parseBoolean(System.getProperty("testdata.cleanup", "true"));
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    // Senaryolar arası paylaşılan fixture'lar: hesap|tip -> entity'ler
+    // Bir hesapla oluşturulan entity başka hesapla koşan senaryoya verilmez
+    private static final Map<String, List<Entity>> POOL = new ConcurrentHashMap<>();
+
+    // Suite sonunda silinecek entity'ler
+    private static final ConcurrentLinkedQueue<Entity> CREATED = new ConcurrentLinkedQueue<>();
+
+    private final String account;
+    private final String baseUrl;
+    private final Map<String, String> headers;
+
+    private TestDataFactory(String account, String baseUrl, Map<String, String> headers) {
+        this.account = account;
+        this.baseUrl = baseUrl;
+        this.headers = headers;
+    }
+
+    // Oluşturulan entity - id ve gönderilen/dönen alanlar
+    public static class Entity {
+        private final String type;
+        private final String id;
+        private final Map<String, Object> data;
+        private final String url;
+        private final String account;
+
+        Entity(String type, String id, Map<String, Object> data, String url, String account) {
+            this.type = type;
+            this.id = id;
+            this.data = data;
+            this.url = url;
+            this.account = account;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Object get(String field) {
+            return data.get(field);
+        }
+
+        public Map<String, Object> getData() {
+            return data;
+        }
+
+        @Override
+        public String toString() {
+            return type + "#" + id;
+        }
+    }
+
+    // Driver'ın login olduğu origin ve cookie'leri ile (login sonrası çağrılmalı)
+    // account: login olunan kullanıcı/hesap - fixture havuzu ve cleanup login'i bu anahtarla ayrılır
+    public static TestDataFactory forDriver(WebDriver driver, String account) {
+        URI current = URI.create(driver.getCurrentUrl());
+        String origin = current.getScheme() + "://" + current.getAuthority();
+        return new TestDataFactory(account, System.getProperty("testdata.base.url", origin), authHeaders(driver));
+    }
+
+    // Driver oturumunun API istekleri için header'ları (cookie ve varsa bearer token)
+    public static Map<String, String> authHeaders(WebDriver driver) {
+        Map<String, String> headers = new HashMap<>();
+        StringJoiner cookies = new StringJoiner("; ");
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(cookie.getName() + "=" + cookie.getValue());
+        }
+        headers.put("Cookie", cookies.toString());
+
+        if (AUTH_TOKEN_KEY != null) {
+            Object token = ((JavascriptExecutor) driver).executeScript("return window.localStorage.getItem(arguments[0]);", AUTH_TOKEN_KEY);
+            if (token != null) {
+                headers.put("Authorization", "Bearer " + token);
+            }
+        }
+        return Collections.unmodifiableMap(headers);
+    }
+
+    // ========== CREATE ==========
+
+    public Entity create(String type, Map<String, Object> fields) {
+        return createAsync(type, fields).join();
+    }
+
+    // Tüm istekler aynı anda gönderilir - toplam süre en yavaş isteğe yakın
+    public List<Entity> createAll(String type, List<Map<String, Object>> batch) {
+        try (Timings.Timer timer = Timings.startHelper("testData.createAll")) {
+            List<CompletableFuture<Entity>> futures = new ArrayList<>();
+            for (Map<String, Object> fields : batch) {
+                futures.add(createAsync(type, fields));
+            }
+            List<Entity> entities = new ArrayList<>();
+            for (CompletableFuture<Entity> future : futures) {
+                entities.add(future.join());
+            }
+            TestUtils.logSuccess("Created " + entities.size() + " " + type + " entities via API");
+            return entities;
+        }
+    }
+
+    // Havuzdaki ilk entity (yoksa oluştur) - sadece okunan, değiştirilmeyen veriler için
+    public Entity fixture(String type, Supplier<Map<String, Object>> fields) {
+        return fixtures(type, 1, fields).get(0);
+    }
+
+    // Havuzda en az count adet entity olmasını sağla, eksikleri tek batch'te oluştur
+    public List<Entity> fixtures(String type, int count, Supplier<Map<String, Object>> fields) {
+        List<Entity> pooled = POOL.computeIfAbsent(account + "|" + type, k -> new CopyOnWriteArrayList<>());
+        synchronized (pooled) {
+            int missing = count - pooled.size();
+            if (missing > 0) {
+                List<Map<String, Object>> batch = new ArrayList<>();
+                for (int i = 0; i < missing; i++) {
+                    batch.add(fields.get());
+                }
+                pooled.addAll(createAll(type, batch));
+            } else {
+                TestUtils.logInfo("Reusing " + count + " pooled " + type + " fixtures");
+            }
+            return new ArrayList<>(pooled.subList(0, count));
+        }
+    }
+
+    private CompletableFuture<Entity> createAsync(String type, Map<String, Object> fields) {
+        String url = baseUrl + endpoint(type);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(new Json().toJson(fields)));
+        headers.forEach(request::header);
+
+        return CLIENT.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() / 100 != 2) {
+                throw new RuntimeException("Creating " + type + " failed: HTTP " + response.statusCode() + " " + url + " - " + response.body());
+            }
+            Map<String, Object> body = parse(response.body());
+            Object id = body.get("id");
+            if (id == null && body.get("data") instanceof Map) {
+                id = ((Map<?, ?>) body.get("data")).get("id");
+            }
+            if (id == null) {
+                throw new RuntimeException("Creating " + type + " returned no id: " + response.body());
+            }
+
+            Map<String, Object> data = new LinkedHashMap<>(fields);
+            data.putAll(body);
+            Entity entity = new Entity(type, String.valueOf(id), data, url + "/" + id, account);
+            CREATED.add(entity);
+            return entity;
+        });
+    }
+
+    // ========== CLEANUP ==========
+
+    // Suite sonunda (driver'lar kapanmadan) oluşturulan her şeyi paralel DELETE ile sil
+    // login: hesap -> o hesapla yeni açılmış oturumun header'ları (null ise o hesabın entity'leri silinemez)
+    public static void cleanup(Function<String, Map<String, String>> login) {
+        if (!CLEANUP || CREATED.isEmpty()) {
+            return;
+        }
+        Map<String, List<Entity>> byAccount = new LinkedHashMap<>();
+        Entity entity;
+        while ((entity = CREATED.poll()) != null) {
+            byAccount.computeIfAbsent(entity.account, k -> new ArrayList<>()).add(entity);
+        }
+
+        List<CompletableFuture<Boolean>> deletes = new ArrayList<>();
+        for (Map.Entry<String, List<Entity>> entry : byAccount.entrySet()) {
+            Map<String, String> headers;
+            try {
+                headers = login.apply(entry.getKey());
+            } catch (Exception e) {
+                TestUtils.logWarning("Test data cleanup login failed: " + e.getMessage());
+                headers = null;
+            }
+            for (Entity target : entry.getValue()) {
+                if (headers == null) {
+                    deletes.add(CompletableFuture.completedFuture(false));
+                    continue;
+                }
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target.url)).timeout(REQUEST_TIMEOUT).DELETE();
+                headers.forEach(request::header);
+                deletes.add(CLIENT.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> response.statusCode() / 100 == 2 || response.statusCode() == 404)
+                        .exceptionally(error -> false));
+            }
+        }
+
+        int failed = 0;
+        for (CompletableFuture<Boolean> delete : deletes) {
+            if (!delete.join()) {
+                failed++;
+            }
+        }
+        POOL.clear();
+        if (failed == 0) {
+            TestUtils.logInfo("Test data cleanup: deleted " + deletes.size() + " entities");
+        } else {
+            TestUtils.logWarning("Test data cleanup: " + failed + " of " + deletes.size() + " entities could not be deleted");
+        }
+    }
+
+    // ========== INTERNALS ==========
+
+    private static String endpoint(String type) {
+        String endpoint = System.getProperty("testdata.endpoint." + type, DEFAULT_ENDPOINTS.get(type));
+        if (endpoint == null) {
+            throw new IllegalArgumentException("No endpoint for test data type '" + type + "', set -Dtestdata.endpoint." + type);
+        }
+        return endpoint;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parse(String body) {
+        if (body == null || body.isBlank()) {
+            return new HashMap<>();
+        }
+        Object parsed = new Json().toType(body, Json.MAP_TYPE);
+        return parsed instanceof Map ? (Map<String, Object>) parsed : new HashMap<>();
+    }
+}
@@ -4,34 +4,25 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 
 public class TestUtils {
     
     // Wait metodları
+    // Sabit bekleme - koşula bağlı beklemeler için WaitEngine.until kullan
     public static void waitForSeconds(int seconds) {
-        try {
-            Thread.sleep(seconds * 1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        WaitEngine.pause(Duration.ofSeconds(seconds));
     }
     
     // SAYFA TAM YÜKLENENE KADAR BEKLE (KONTROL İLE)
+    // readyState + jQuery + bekleyen fetch/XHR yok + SPA router sessiz (PageReadiness)
     public static void waitForPageToLoad(WebDriver driver, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
         try {
-            // JavaScript readyState kontrolü
-            wait.until(ExpectedConditions.jsReturnsValue("return document.readyState === 'complete'"));
-            
-            // jQuery yüklenmişse onu da kontrol et
-            wait.until(ExpectedConditions.jsReturnsValue("return typeof jQuery === 'undefined' || jQuery.active === 0"));
-            
-            // AJAX istekleri tamamlandı mı kontrol et
-            wait.until(ExpectedConditions.jsReturnsValue("return window.performance.getEntriesByType('navigation')[0].loadEventEnd > 0"));
-            
-            logSuccess("Page loaded completely");
+            if (PageReadiness.awaitReady(driver, timeoutSeconds)) {
+                logSuccess("Page loaded completely");
+            } else {
+                logWarning("Page load timeout, but continuing...");
+            }
         } catch (Exception e) {
             logWarning("Page load timeout, but continuing...");
         }
@@ -44,26 +35,25 @@ public class TestUtils {
     
     // ELEMENT YÜKLENENE KADAR BEKLE
     public static void waitForElement(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WaitEngine.until(driver, ExpectedConditions.presenceOfElementLocated(locator), timeoutSeconds);
     }
     
     // ELEMENT GÖRÜNÜR OLANA KADAR BEKLE
     public static void waitForElementVisible(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        WaitEngine.until(driver, ExpectedConditions.visibilityOfElementLocated(locator), timeoutSeconds);
     }
     
     // ELEMENT TIKLANABİLİR OLANA KADAR BEKLE
     public static void waitForElementClickable(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        wait.until(ExpectedConditions.elementToBeClickable(locator));
+        WaitEngine.until(driver, ExpectedConditions.elementToBeClickable(locator), timeoutSeconds);
     }
     
     // Element kontrolleri
+    // Negatif kontroller implicit wait'i beklemesin (ProbeMode)
     public static boolean isElementDisplayed(WebDriver driver, By locator) {
         try {
-            return driver.findElement(locator).isDisplayed();
+            WebElement element = ProbeMode.findFirst(driver, locator);
+            return element != null && element.isDisplayed();
         } catch (Exception e) {
             return false;
         }
@@ -71,7 +61,8 @@ public class TestUtils {
     
     public static boolean isElementEnabled(WebDriver driver, By locator) {
         try {
-            return driver.findElement(locator).isEnabled();
+            WebElement element = ProbeMode.findFirst(driver, locator);
+            return element != null && element.isEnabled();
         } catch (Exception e) {
             return false;
         }
@@ -82,9 +73,9 @@ public class TestUtils {
         return driver.getCurrentUrl();
     }
     
+    // target/artifacts/screenshots/<fileName>.png - PNG yazımı arka planda
     public static void takeScreenshot(WebDriver driver, String fileName) {
-        // TODO: Implement screenshot functionality
-        System.out.println("Screenshot would be taken: " + fileName);
+        ArtifactCapture.screenshot(driver, fileName);
     }
     
     public static void refreshPage(WebDriver driver) {
@@ -95,20 +86,20 @@ public class TestUtils {
         driver.manage().window().maximize();
     }
     
-    // Logging metodları
+    // Logging metodları - console ve dosya I/O'su AsyncLogger'ın writer thread'inde yapılır
     public static void logSuccess(String message) {
-        System.out.println("✅ SUCCESS: " + message);
+        AsyncLogger.log("✅ SUCCESS: " + message, false);
     }
     
     public static void logError(String message, Exception e) {
-        System.err.println("❌ ERROR: " + message + " - " + e.getMessage());
+        AsyncLogger.log("❌ ERROR: " + message + " - " + e.getMessage(), true);
     }
     
     public static void logInfo(String message) {
-        System.out.println("ℹ️ INFO: " + message);
+        AsyncLogger.log("ℹ️ INFO: " + message, false);
     }
     
     public static void logWarning(String message) {
-        System.out.println("⚠️ WARNING: " + message);
+        AsyncLogger.log("⚠️ WARNING: " + message, false);
     }
 }
@@ -0,0 +1,50 @@
+package utilities;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Cucumber plugin that records wall time per step definition and writes
+ * a latency report (p50/p95/max, waiting vs acting) when the run finishes.
+ * Usage: plugin = {"utilities.TimingPlugin"} or "utilities.TimingPlugin:target/my-report.json"
+ */
+public class TimingPlugin implements ConcurrentEventListener {
+
+    private final Path reportFile;
+
+    public TimingPlugin() {
+        this(Paths.get("target", "latency-report.json").toFile());
+    }
+
+    public TimingPlugin(File reportFile) {
+        this.reportFile = reportFile.toPath();
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, event -> Timings.stepStarted());
+        publisher.registerHandlerFor(TestStepFinished.class, event ->
+                Timings.stepFinished(stepName(event.getTestStep()), event.getResult().getDuration().toNanos()));
+        publisher.registerHandlerFor(TestRunFinished.class, event -> Timings.writeReport(reportFile));
+    }
+
+    // Step definition pattern'i (Examples değerlerinden bağımsız) veya hook'un kod konumu
+    private static String stepName(TestStep step) {
+        if (step instanceof PickleStepTestStep) {
+            return ((PickleStepTestStep) step).getPattern();
+        }
+        if (step instanceof HookTestStep) {
+            return "hook " + ((HookTestStep) step).getHookType() + " " + step.getCodeLocation();
+        }
+        return step.getCodeLocation();
+    }
+}
@@ -0,0 +1,214 @@
+package utilities;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.WebDriverListener;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Timings {
+
+    // Kategori -> isim -> süreler
+    private static final Map<String, Map<String, Series>> SERIES = new ConcurrentHashMap<>();
+
+    // Step başına bekleme süresi (acting = toplam - bekleme)
+    private static final Map<String, Series> STEP_WAITS = new ConcurrentHashMap<>();
+
+    // Thread'in içinde bulunduğu step'te biriken bekleme süresi
+    private static final ThreadLocal<long[]> STEP_WAIT_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    // İç içe beklemeler (until -> pause) sadece en dışta sayılır
+    private static final ThreadLocal<int[]> WAIT_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private Timings() {
+    }
+
+    // Tek bir ölçüm - try-with-resources ile kullanılır
+    public static class Timer implements AutoCloseable {
+        private final String category;
+        private final String name;
+        private final long start = System.nanoTime();
+
+        private Timer(String category, String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        @Override
+        public void close() {
+            long elapsed = System.nanoTime() - start;
+            if ("wait".equals(category)) {
+                int[] depth = WAIT_DEPTH.get();
+                depth[0]--;
+                if (depth[0] > 0) {
+                    return;
+                }
+                STEP_WAIT_NANOS.get()[0] += elapsed;
+            }
+            record(category, name, elapsed);
+        }
+    }
+
+    // Basit, thread-safe süre serisi
+    private static class Series {
+        private final List<Long> nanos = new ArrayList<>();
+
+        synchronized void add(long value) {
+            nanos.add(value);
+        }
+
+        synchronized Map<String, Object> summary() {
+            List<Long> sorted = new ArrayList<>(nanos);
+            Collections.sort(sorted);
+            long total = 0;
+            for (long value : sorted) {
+                total += value;
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", sorted.size());
+            summary.put("p50Ms", toMillis(percentile(sorted, 50)));
+            summary.put("p95Ms", toMillis(percentile(sorted, 95)));
+            summary.put("maxMs", toMillis(sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1)));
+            summary.put("totalMs", toMillis(total));
+            return summary;
+        }
+
+        synchronized long total() {
+            long total = 0;
+            for (long value : nanos) {
+                total += value;
+            }
+            return total;
+        }
+    }
+
+    // ========== RECORDING ==========
+
+    // Bekleme ölçümü (WaitEngine)
+    public static Timer startWait(String name) {
+        WAIT_DEPTH.get()[0]++;
+        return new Timer("wait", name);
+    }
+
+    // BaseTest helper ölçümü (click, find, login...)
+    public static Timer startHelper(String name) {
+        return new Timer("helper", name);
+    }
+
+    // Step başladı - bekleme sayacını sıfırla
+    public static void stepStarted() {
+        STEP_WAIT_NANOS.get()[0] = 0;
+    }
+
+    // Step bitti - toplam süre ve step içindeki bekleme süresini kaydet
+    public static void stepFinished(String stepDefinition, long durationNanos) {
+        record("step", stepDefinition, durationNanos);
+        STEP_WAITS.computeIfAbsent(stepDefinition, k -> new Series()).add(STEP_WAIT_NANOS.get()[0]);
+        STEP_WAIT_NANOS.get()[0] = 0;
+    }
+
+    public static void record(String category, String name, long nanos) {
+        SERIES.computeIfAbsent(category, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, k -> new Series())
+                .add(nanos);
+    }
+
+    // ========== REPORT ==========
+
+    // p50/p95/max raporunu JSON olarak yaz
+    public static void writeReport(Path file) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+
+        Map<String, Object> steps = new TreeMap<>();
+        for (Map.Entry<String, Series> entry : SERIES.getOrDefault("step", Collections.emptyMap()).entrySet()) {
+            Map<String, Object> summary = entry.getValue().summary();
+            long total = entry.getValue().total();
+            Series waits = STEP_WAITS.get(entry.getKey());
+            long waiting = waits != null ? waits.total() : 0;
+            summary.put("waitingMs", toMillis(waiting));
+            summary.put("actingMs", toMillis(Math.max(0, total - waiting)));
+            steps.put(entry.getKey(), summary);
+        }
+        report.put("steps", steps);
+        report.put("helpers", summaries("helper"));
+        report.put("waits", summaries("wait"));
+        report.put("commands", summaries("command"));
+        report.put("retries", Retry.summary());
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+            TestUtils.logInfo("Latency report written: " + file);
+        } catch (IOException e) {
+            TestUtils.logError("Latency report could not be written", e);
+        }
+    }
+
+    private static Map<String, Object> summaries(String category) {
+        Map<String, Object> result = new TreeMap<>();
+        for (Map.Entry<String, Series> entry : SERIES.getOrDefault(category, Collections.emptyMap()).entrySet()) {
+            result.put(entry.getKey(), entry.getValue().summary());
+        }
+        return result;
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    // ========== WEBDRIVER COMMANDS ==========
+
+    // Her WebDriver / WebElement komutunun süresini ölç (EventFiringDecorator ile bağlanır)
+    public static class CommandListener implements WebDriverListener {
+
+        private static final ThreadLocal<Deque<Long>> STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            STARTS.get().push(System.nanoTime());
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finish(target, method);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            finish(target, method);
+        }
+
+        private void finish(Object target, Method method) {
+            Long start = STARTS.get().poll();
+            if (start == null) {
+                return;
+            }
+            String prefix = target instanceof WebElement ? "element." : target instanceof WebDriver ? "driver." : "";
+            record("command", prefix + method.getName(), System.nanoTime() - start);
+        }
+    }
+}
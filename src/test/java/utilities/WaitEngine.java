@@ -0,0 +1,122 @@
+package utilities;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.time.Duration;
+import java.util.function.Function;
+
+public class WaitEngine {
+
+    // İlk poll aralığı - koşul hemen sağlanırsa bekleme neredeyse sıfır
+    private static final long INITIAL_POLL_MILLIS = 25;
+
+    // Her başarısız denemede aralık bu oranla büyür
+    private static final double BACKOFF_FACTOR = 1.5;
+
+    private static final long MAX_POLL_MILLIS = 500;
+
+    // MutationObserver modunda DOM değişikliği bu kadar beklenir
+    private static final long MAX_MUTATION_WAIT_MILLIS = 1000;
+
+    private static final String AWAIT_MUTATION_SCRIPT =
+            "var root = arguments[0] || document, max = arguments[1], done = arguments[arguments.length - 1];" +
+            "var timer, observer = new MutationObserver(function() {" +
+            "  observer.disconnect(); clearTimeout(timer); done(true);" +
+            "});" +
+            "observer.observe(root, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "timer = setTimeout(function() { observer.disconnect(); done(false); }, max);";
+
+    private WaitEngine() {
+    }
+
+    // ========== CONDITION WAITS ==========
+
+    // Koşul sağlanana kadar adaptif polling ile bekle
+    public static <T> T until(WebDriver driver, Function<? super WebDriver, T> condition, int timeoutSeconds) {
+        return until(driver, condition, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    // Koşul sağlanana kadar adaptif polling ile bekle
+    public static <T> T until(WebDriver driver, Function<? super WebDriver, T> condition, Duration timeout) {
+        return poll(driver, condition, timeout, false);
+    }
+
+    // Koşul sağlanana kadar bekle - poll arasında DOM değişikliği olunca hemen tekrar dene
+    public static <T> T untilOnMutation(WebDriver driver, Function<? super WebDriver, T> condition, Duration timeout) {
+        return poll(driver, condition, timeout, true);
+    }
+
+    // ========== EVENT WAITS ==========
+
+    // Verilen element (null ise document) altında DOM değişikliği olana kadar bekle
+    public static boolean awaitDomChange(WebDriver driver, WebElement root, Duration maxWait) {
+        try (Timings.Timer timer = Timings.startWait("awaitDomChange")) {
+            Object changed = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_MUTATION_SCRIPT, root, maxWait.toMillis());
+            return Boolean.TRUE.equals(changed);
+        } catch (Exception e) {
+            // Sayfa geçişi sırasında script kesilebilir
+            return true;
+        }
+    }
+
+    // Koşulsuz bekleme - sadece gerçekten sabit süre gereken yerlerde
+    public static void pause(Duration duration) {
+        try (Timings.Timer timer = Timings.startWait("pause")) {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== INTERNALS ==========
+
+    private static <T> T poll(WebDriver driver, Function<? super WebDriver, T> condition, Duration timeout, boolean onMutation) {
+        // Koşul içindeki findElement'ler implicit wait'e takılmasın - timeout'u sadece bu bekleme belirler
+        try (Timings.Timer timer = Timings.startWait(describe(condition));
+             ProbeMode probe = ProbeMode.enter(driver)) {
+            return pollUntil(driver, condition, timeout, onMutation);
+        }
+    }
+
+    // Rapor için okunabilir koşul adı (lambda'lar isimsiz)
+    private static String describe(Object condition) {
+        String name = condition.toString();
+        if (name.contains("$$Lambda")) {
+            return "custom condition";
+        }
+        return name.length() > 120 ? name.substring(0, 120) : name;
+    }
+
+    private static <T> T pollUntil(WebDriver driver, Function<? super WebDriver, T> condition, Duration timeout, boolean onMutation) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long interval = INITIAL_POLL_MILLIS;
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                throw new TimeoutException("Condition not met within " + timeout.toMillis() + " ms: " + condition, lastError);
+            }
+
+            if (onMutation) {
+                awaitDomChange(driver, null, Duration.ofMillis(Math.min(MAX_MUTATION_WAIT_MILLIS, remainingMillis)));
+            } else {
+                pause(Duration.ofMillis(Math.min(interval, remainingMillis)));
+                interval = Math.min(MAX_POLL_MILLIS, (long) (interval * BACKOFF_FACTOR));
+            }
+        }
+    }
+}